@@ -0,0 +1,80 @@
+package com.expenses_tracker.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenses_tracker.entity.Money;
+
+/**
+ * Summing a column of amounts as chained BigDecimal.add, as chained Money.plus and as long
+ * minor units read from Money. Run with
+ * {@code java -jar benchmarks/target/benchmarks.jar MoneySumBenchmark} to get the allocation
+ * rate per sum (gc.alloc.rate.norm) next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MoneySumBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    private BigDecimal[] decimals;
+    private Money[] amounts;
+
+    @Setup
+    public void setUp() {
+        // Expense-like amounts: 1.00 to 50,000.00 with paise, as loaded from decimal(38,2)
+        SplittableRandom random = new SplittableRandom(42);
+        decimals = new BigDecimal[rows];
+        amounts = new Money[rows];
+        for (int i = 0; i < rows; i++) {
+            long minorUnits = random.nextLong(100, 5_000_001);
+            decimals[i] = BigDecimal.valueOf(minorUnits, Money.SCALE);
+            amounts[i] = Money.ofMinor(minorUnits);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAdd() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyPlus() {
+        Money total = Money.ZERO;
+        for (Money amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyMinorUnits() {
+        long total = 0;
+        for (Money amount : amounts) {
+            total = Math.addExact(total, amount.getMinorUnits());
+        }
+        return Money.ofMinor(total);
+    }
+}
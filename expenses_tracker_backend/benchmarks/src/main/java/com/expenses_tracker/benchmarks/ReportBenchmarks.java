@@ -0,0 +1,29 @@
+package com.expenses_tracker.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the report benchmarks with the GC and peak heap profilers attached.
+ * Accepts the usual JMH command line, e.g. {@code -p rows=1000 -f 1 csv}, or
+ * {@code MoneySumBenchmark} to run the money aggregation benchmark instead.
+ */
+public class ReportBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(ReportServiceBenchmark.class.getSimpleName());
+        }
+        Options options = builder
+            .addProfiler(GCProfiler.class)
+            .addProfiler(PeakHeapProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
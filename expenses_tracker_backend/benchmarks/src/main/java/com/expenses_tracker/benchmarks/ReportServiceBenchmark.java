@@ -0,0 +1,73 @@
+package com.expenses_tracker.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenses_tracker.service.ReportService;
+
+/**
+ * Throughput of each report generator, both the byte[] variants and the streaming ones
+ * that write to the response. Run through ReportBenchmarks to also get allocation rate
+ * (GC profiler) and peak heap (PeakHeapProfiler).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReportServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ReportService reportService;
+
+    @Setup
+    public void setUp() {
+        reportService = SyntheticReportData.reportService(rows);
+    }
+
+    @Benchmark
+    public byte[] csv() throws IOException {
+        return reportService.generateUserCSVReport(SyntheticReportData.USER_ID);
+    }
+
+    @Benchmark
+    public byte[] excel() throws IOException {
+        return reportService.generateUserExcelReport(SyntheticReportData.USER_ID);
+    }
+
+    @Benchmark
+    public byte[] pdf() throws IOException {
+        return reportService.generateUserPDFReport(SyntheticReportData.USER_ID);
+    }
+
+    @Benchmark
+    public void csvStreaming() throws IOException {
+        reportService.writeUserCSVReport(SyntheticReportData.USER_ID, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void excelStreaming() throws IOException {
+        reportService.writeUserExcelReport(SyntheticReportData.USER_ID, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void pdfStreaming() throws IOException {
+        reportService.writeUserPDFReport(SyntheticReportData.USER_ID, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,131 @@
+package com.expenses_tracker.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.expenses_tracker.dto.CategoryTotal;
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.Money;
+import com.expenses_tracker.entity.RecurringBill;
+import com.expenses_tracker.entity.User;
+import com.expenses_tracker.repository.BudgetRepository;
+import com.expenses_tracker.repository.ExpenseRepository;
+import com.expenses_tracker.repository.RecurringBillRepository;
+import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.service.PdfReportRenderer;
+import com.expenses_tracker.service.ReportService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Builds a ReportService wired to in-memory repositories instead of a database.
+ * Expenses are generated lazily on every stream, so the dataset itself adds nothing
+ * to the measured footprint and a million rows cost no more to hold than a thousand.
+ */
+final class SyntheticReportData {
+
+    static final Long USER_ID = 1L;
+
+    private static final String[] CATEGORIES = {"Food", "Travel", "Shopping", "Bills", "Health", "Entertainment"};
+    private static final String[] PAYMENT_METHODS = {"Card", "Cash", "UPI", "Net Banking"};
+    private static final LocalDate START_DATE = LocalDate.of(2020, 1, 1);
+
+    private SyntheticReportData() {
+    }
+
+    static ReportService reportService(int rows) {
+        User user = user();
+
+        ExpenseRepository expenseRepository = stub(ExpenseRepository.class);
+        when(expenseRepository.streamByUserId(any()))
+            .thenAnswer(invocation -> LongStream.rangeClosed(1, rows).mapToObj(id -> expense(id, user)));
+        when(expenseRepository.sumAmountByExpenseType(any())).thenReturn(List.of(
+            new CategoryTotal("PERSONAL", BigDecimal.valueOf(rows * 12_550L, 2), (long) rows)));
+        UserRepository userRepository = stub(UserRepository.class);
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
+        BudgetRepository budgetRepository = stub(BudgetRepository.class);
+        when(budgetRepository.findByUserId(any())).thenReturn(budgets(user));
+        RecurringBillRepository recurringBillRepository = stub(RecurringBillRepository.class);
+        when(recurringBillRepository.findByUserId(any())).thenReturn(bills(user));
+
+        ReportService reportService = new ReportService();
+        ReflectionTestUtils.setField(reportService, "expenseRepository", expenseRepository);
+        ReflectionTestUtils.setField(reportService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(reportService, "budgetRepository", budgetRepository);
+        ReflectionTestUtils.setField(reportService, "recurringBillRepository", recurringBillRepository);
+        ReflectionTestUtils.setField(reportService, "entityManager", stub(EntityManager.class));
+        ReflectionTestUtils.setField(reportService, "pdfReportRenderer", new PdfReportRenderer(100));
+        ReflectionTestUtils.setField(reportService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reportService, "excelRowWindow", 100);
+        ReflectionTestUtils.setField(reportService, "excelCompressTempFiles", true);
+        return reportService;
+    }
+
+    private static User user() {
+        User user = new User("benchmark", "benchmark@example.com", "secret");
+        user.setId(USER_ID);
+        return user;
+    }
+
+    private static Expense expense(long id, User user) {
+        Expense expense = new Expense();
+        expense.setId(id);
+        expense.setTitle("Expense " + id);
+        expense.setDescription("Synthetic expense for report benchmarks");
+        expense.setAmount(BigDecimal.valueOf(12_550, 2));
+        expense.setDate(START_DATE.plusDays(id % 1_500));
+        expense.setCategory(CATEGORIES[(int) (id % CATEGORIES.length)]);
+        expense.setPaymentMethod(PAYMENT_METHODS[(int) (id % PAYMENT_METHODS.length)]);
+        expense.setExpenseType(id % 3 == 0 ? "PROFESSIONAL" : "PERSONAL");
+        expense.setUser(user);
+        return expense;
+    }
+
+    private static List<Budget> budgets(User user) {
+        return IntStream.range(0, CATEGORIES.length).mapToObj(i -> {
+            Budget budget = new Budget();
+            budget.setId((long) i + 1);
+            budget.setCategory(CATEGORIES[i]);
+            budget.setLimitAmount(Money.ofMinor(5_000_000));
+            budget.setStartDate(START_DATE);
+            budget.setEndDate(START_DATE.plusYears(5));
+            budget.setUser(user);
+            return budget;
+        }).toList();
+    }
+
+    private static List<RecurringBill> bills(User user) {
+        return IntStream.range(0, 10).mapToObj(i -> {
+            RecurringBill bill = new RecurringBill();
+            bill.setId((long) i + 1);
+            bill.setName("Bill " + (i + 1));
+            bill.setAmount(BigDecimal.valueOf(999));
+            bill.setCategory("Bills");
+            bill.setFrequency("MONTHLY");
+            bill.setNextDueDate(START_DATE.plusMonths(i));
+            bill.setUser(user);
+            return bill;
+        }).toList();
+    }
+
+    /**
+     * Mock that keeps no record of its invocations, so a million detach() calls don't pile up in memory
+     * and show in the measured footprint
+     */
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
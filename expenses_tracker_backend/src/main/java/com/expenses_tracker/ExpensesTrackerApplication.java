@@ -10,7 +10,6 @@ public class ExpensesTrackerApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(ExpensesTrackerApplication.class, args);
-		System.out.println("Expenses Tracker Application Started Successfully!");
 	}
 
 }
@@ -2,6 +2,8 @@ package com.expenses_tracker.config;
 
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,8 @@ import com.expenses_tracker.repository.UserRepository;
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -43,7 +47,7 @@ public class DataInitializer implements CommandLineRunner {
             Role newRole = new Role();
             newRole.setName(roleName);
             roleRepository.save(newRole);
-            System.out.println("✅ Created role: " + roleName);
+            log.info("Created role {}", roleName);
         }
     }
 
@@ -67,7 +71,7 @@ public class DataInitializer implements CommandLineRunner {
             admin.setAccessibilityMode(false);
 
             userRepository.save(admin);
-            System.out.println("👑 Default admin created: admin / admin123");
+            log.info("Default admin user created");
         }
     }
 }
@@ -0,0 +1,41 @@
+package com.expenses_tracker.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * Creates the JCache manager for the Hibernate second-level cache from the provider and config
+ * URI in spring.jpa.properties, and hands it to Hibernate, so other beans can reach the regions
+ * through the JCache API instead of Hibernate's internals.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(JpaProperties jpaProperties, ResourceLoader resourceLoader) throws IOException {
+        Map<String, String> properties = jpaProperties.getProperties();
+        String provider = properties.get(ConfigSettings.PROVIDER);
+        CachingProvider cachingProvider = provider != null ? Caching.getCachingProvider(provider) : Caching.getCachingProvider();
+        String configUri = properties.get(ConfigSettings.CONFIG_URI);
+        // classpath: locations are resolved the way Hibernate would, to the file or jar entry behind them
+        URI uri = configUri != null ? resourceLoader.getResource(configUri).getURI() : cachingProvider.getDefaultURI();
+        return cachingProvider.getCacheManager(uri, cachingProvider.getDefaultClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,57 @@
+package com.expenses_tracker.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Publishes the Hibernate second-level cache regions to Micrometer: cache.gets{result=hit|miss},
+ * puts and removals per region, plus cache.hit.ratio. Spring Boot only binds metrics for Spring
+ * cache managers, so the JCache caches from {@link SecondLevelCacheConfig} are registered here.
+ * Tagged layer=hibernate; the in-process Caffeine caches use the same tag keys with
+ * layer=application, as Prometheus needs one set of keys per metric name.
+ */
+@Component
+@DependsOn("entityManagerFactory") // Hibernate creates the regions when it starts
+public class SecondLevelCacheMetrics {
+
+    public SecondLevelCacheMetrics(CacheManager secondLevelCacheManager, MeterRegistry meterRegistry) {
+        for (String name : secondLevelCacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = secondLevelCacheManager.getCache(name);
+            JCacheMetrics.monitor(meterRegistry, cache, "layer", "hibernate");
+            Gauge.builder("cache.hit.ratio", () -> hitRatio(name))
+                .description("Share of second-level cache lookups that were hits")
+                .tags("cache", name, "layer", "hibernate")
+                .register(meterRegistry);
+        }
+    }
+
+    private static double hitRatio(String cacheName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Set<ObjectName> names = server.queryNames(
+                new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null);
+            if (names.isEmpty()) {
+                return Double.NaN;
+            }
+            CacheStatisticsMXBean statistics = JMX.newMXBeanProxy(server, names.iterator().next(), CacheStatisticsMXBean.class);
+            return statistics.getCacheHitPercentage() / 100.0;
+        } catch (MalformedObjectNameException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -48,6 +48,8 @@ public class SecurityConfig {
                     "/js/**",
                     "/static/**" // Might be needed for React's static assets
                 ).permitAll()
+                // Health checks and the Prometheus scrape, only served on the unpublished management port
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 // Example role-based restrictions (adjust as needed)
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/user/**").hasRole("USER")
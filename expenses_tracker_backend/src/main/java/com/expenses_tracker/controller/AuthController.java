@@ -3,12 +3,13 @@ package com.expenses_tracker.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,6 +29,9 @@ import com.expenses_tracker.entity.Role;
 import com.expenses_tracker.entity.User;
 import com.expenses_tracker.repository.RoleRepository;
 import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.security.CurrentUser;
+import com.expenses_tracker.security.CustomUserDetails;
+import com.expenses_tracker.service.UserCache;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -37,39 +41,43 @@ import jakarta.servlet.http.HttpSession;
 @CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     // --- These are your class fields, they must be declared here ---
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     // --- This is your constructor ---
     public AuthController(AuthenticationManager authenticationManager,
                           UserRepository userRepository,
                           RoleRepository roleRepository,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                          UserCache userCache) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
     }
 
     // --- This is your helper method ---
-    private User getCurrentUser(UserDetails userDetails) {
-        if (userDetails == null) {
+    private Long getCurrentUserId(CustomUserDetails currentUser) {
+        if (currentUser == null) {
             throw new RuntimeException("User not authenticated");
         }
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found in database"));
+        return currentUser.getId();
     }
 
     /**
      * NEW ENDPOINT: Gets the details for the currently logged-in user.
      */
     @GetMapping("/me") // <-- THIS ANNOTATION WAS MISSING
-    public ResponseEntity<?> getCurrentUserDetails(@AuthenticationPrincipal UserDetails currentUser) {
+    public ResponseEntity<?> getCurrentUserDetails(@CurrentUser CustomUserDetails currentUser) {
         try {
-            User user = getCurrentUser(currentUser);
+            User user = userCache.get(getCurrentUserId(currentUser));
             
             // Return a simple map of details (never send the password!)
             Map<String, Object> userDetailsMap = Map.of(
@@ -87,11 +95,9 @@ public class AuthController {
      * NEW ENDPOINT: Deletes the currently logged-in user's account.
      */
     @DeleteMapping("/me") // <-- THIS ANNOTATION WAS MISSING
-    public ResponseEntity<?> deleteCurrentUser(@AuthenticationPrincipal UserDetails currentUser) {
+    public ResponseEntity<?> deleteCurrentUser(@CurrentUser CustomUserDetails currentUser) {
         try {
-            User user = getCurrentUser(currentUser);
-            
-            userRepository.delete(user);
+            userRepository.deleteById(getCurrentUserId(currentUser));
             SecurityContextHolder.clearContext();
             
             return ResponseEntity.ok(Map.of("message", "User account deleted successfully."));
@@ -130,20 +136,18 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody AuthRequest request, HttpServletRequest req) {
         try {
-            System.out.println("Login attempt for user: " + request.getUsername());
-            
+            log.debug("Login attempt for user {}", request.getUsername());
+
             Authentication auth = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
             );
 
-            System.out.println("Authentication successful for: " + request.getUsername());
-            
+            log.debug("Authentication successful for user {}", request.getUsername());
+
             SecurityContextHolder.getContext().setAuthentication(auth);
             
             HttpSession session = req.getSession(true); 
             session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, SecurityContextHolder.getContext());
-            
-            System.out.println("Session created with ID: " + session.getId());
 
             UserDetails principal = (UserDetails) auth.getPrincipal();
 
@@ -156,11 +160,10 @@ public class AuthController {
                 "username", request.getUsername()
             ));
         } catch (BadCredentialsException ex) {
-            System.err.println("Login failed for user: " + request.getUsername() + " - Bad credentials");
+            log.info("Login failed for user {}: bad credentials", request.getUsername());
             return ResponseEntity.status(401).body(Map.of("error", "Invalid username or password"));
         } catch (Exception ex) {
-            System.err.println("Login error: " + ex.getMessage());
-            ex.printStackTrace();
+            log.error("Login error for user {}", request.getUsername(), ex);
             return ResponseEntity.status(500).body(Map.of("error", "Login failed: " + ex.getMessage()));
         }
     }
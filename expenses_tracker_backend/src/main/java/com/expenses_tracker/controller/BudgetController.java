@@ -19,12 +19,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.expenses_tracker.entity.Budget;
-import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.Money;
 import com.expenses_tracker.entity.User;
 import com.expenses_tracker.repository.BudgetRepository;
-import com.expenses_tracker.repository.ExpenseRepository;
 import com.expenses_tracker.repository.UserRepository;
-import com.expenses_tracker.service.NotificationService;
+import com.expenses_tracker.service.BudgetAlertService;
+import com.expenses_tracker.service.BudgetSpendingService;
 
 @RestController
 @RequestMapping("/api/budgets")
@@ -38,10 +38,10 @@ public class BudgetController {
     private UserRepository userRepository;
 
     @Autowired
-    private ExpenseRepository expenseRepository;
-    
+    private BudgetAlertService budgetAlertService;
+
     @Autowired
-    private NotificationService notificationService;
+    private BudgetSpendingService budgetSpendingService;
 
     /**
      * Create a new budget
@@ -61,10 +61,11 @@ public class BudgetController {
         // Create budget from request data
         Budget budget = new Budget();
         budget.setCategory((String) budgetRequest.get("category"));
-        budget.setLimitAmount(new BigDecimal(budgetRequest.get("limitAmount").toString()));
+        budget.setLimitAmount(Money.of(new BigDecimal(budgetRequest.get("limitAmount").toString())));
         budget.setStartDate(LocalDate.parse((String) budgetRequest.get("startDate")));
         budget.setEndDate(LocalDate.parse((String) budgetRequest.get("endDate")));
         budget.setUser(user);
+        budgetSpendingService.recalculate(budget);
         
         return budgetRepository.save(budget);
     }
@@ -106,6 +107,7 @@ public class BudgetController {
         existingBudget.setLimitAmount(budgetDetails.getLimitAmount());
         existingBudget.setStartDate(budgetDetails.getStartDate());
         existingBudget.setEndDate(budgetDetails.getEndDate());
+        budgetSpendingService.recalculate(existingBudget);
 
         return budgetRepository.save(existingBudget);
     }
@@ -118,15 +120,17 @@ public class BudgetController {
         Budget budget = budgetRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Budget not found with id: " + id));
         
-        // Get all expenses for this category and date range
-        List<Expense> expenses = expenseRepository.findByUserId(budget.getUser().getId());
-        
-        return expenses.stream()
-            .filter(e -> e.getCategory().equals(budget.getCategory()))
-            .filter(e -> !e.getDate().isBefore(budget.getStartDate()))
-            .filter(e -> !e.getDate().isAfter(budget.getEndDate()))
-            .map(Expense::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Maintained incrementally as expenses are added, edited and deleted
+        return budget.getSpentAmount();
+    }
+
+    /**
+     * Rebuild the spent amount of a user's budgets from their expenses
+     */
+    @PostMapping("/reconcile/user/{userId}")
+    public Map<String, Object> reconcileBudgetSpending(@PathVariable Long userId) {
+        int budgetsReconciled = budgetSpendingService.reconcileUser(userId);
+        return Map.of("budgetsReconciled", budgetsReconciled);
     }
 
     /**
@@ -174,35 +178,9 @@ public class BudgetController {
         for (Budget budget : userBudgets) {
             budgetsChecked++;
             
-            // Calculate total spending for this budget
-            BigDecimal totalSpending = budgetRepository.calculateTotalSpendingByUserAndCategory(
-                userId, budget.getCategory(), budget.getStartDate(), budget.getEndDate());
-            
-            // Calculate remaining budget
-            BigDecimal remainingBudget = budget.getLimitAmount().subtract(totalSpending);
-            
-            // Check if budget exceeded (Over Limit - 100%+)
-            if (remainingBudget.compareTo(BigDecimal.ZERO) <= 0) {
-                String message = String.format("🚨 Budget Alert: You have exceeded your %s budget of ₹%.2f! Current spending: ₹%.2f", 
-                    budget.getCategory(), budget.getLimitAmount(), totalSpending);
-                
-                // Create notification for over limit
-                notificationService.createNotification(userId, message);
+            if (budgetAlertService.evaluate(budget)) {
                 alertsCreated++;
             }
-            // Check if spending exceeds 90% of budget limit (Approaching limit)
-            else {
-                BigDecimal threshold = budget.getLimitAmount().multiply(new BigDecimal("0.9"));
-                
-                if (totalSpending.compareTo(threshold) > 0) {
-                    String message = String.format("⚠️ Budget Alert: You have only ₹%.2f left in your %s budget!", 
-                        remainingBudget, budget.getCategory());
-                    
-                    // Create notification for approaching limit
-                    notificationService.createNotification(userId, message);
-                    alertsCreated++;
-                }
-            }
         }
         
         return Map.of(
@@ -0,0 +1,32 @@
+package com.expenses_tracker.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.expenses_tracker.dto.DashboardSummary;
+import com.expenses_tracker.security.CurrentUser;
+import com.expenses_tracker.security.CustomUserDetails;
+import com.expenses_tracker.service.DashboardService;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * Get aggregated dashboard figures for the current user
+     */
+    @GetMapping("/summary")
+    public DashboardSummary getSummary(@CurrentUser CustomUserDetails currentUser) {
+        if (currentUser == null) {
+            throw new RuntimeException("User not authenticated");
+        }
+        return dashboardService.getSummary(currentUser.getId());
+    }
+}
@@ -2,12 +2,15 @@ package com.expenses_tracker.controller;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,43 +21,91 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.expenses_tracker.dto.ExpenseImportResult;
+import com.expenses_tracker.dto.ExpensePage;
+import com.expenses_tracker.dto.ExpenseSearchPage;
+import com.expenses_tracker.dto.ExpenseSummary;
 import com.expenses_tracker.entity.Expense;
 import com.expenses_tracker.entity.User;
-import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.security.CurrentUser;
+import com.expenses_tracker.security.CustomUserDetails;
+import com.expenses_tracker.service.ExpenseImportService;
 import com.expenses_tracker.service.ExpenseService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @RestController
 @RequestMapping("/api/expenses")
 @CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 public class ExpenseController {
 
+    private static final Logger log = LoggerFactory.getLogger(ExpenseController.class);
+
     @Autowired
     private ExpenseService expenseService;
 
     @Autowired
-    private UserRepository userRepository;
+    private ExpenseImportService expenseImportService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @PostMapping
-    public Expense addExpense(@RequestBody Expense expense, @AuthenticationPrincipal UserDetails currentUser) {
-        User user = getUserFromDetails(currentUser);
-        System.out.println("DEBUG: Adding expense for user: " + user.getUsername() + " (ID: " + user.getId() + ")");
-        System.out.println("DEBUG: Expense details - Title: " + expense.getTitle() + ", Amount: " + expense.getAmount());
+    public Expense addExpense(@RequestBody Expense expense, @CurrentUser CustomUserDetails currentUser) {
+        Long userId = getUserId(currentUser);
+        log.debug("Adding expense for user {}", userId);
+        User user = new User();
+        user.setId(userId);
         expense.setUser(user);
-        Expense saved = expenseService.addExpense(expense);
-        System.out.println("DEBUG: Expense saved with ID: " + saved.getId());
+        Expense saved = timed("create", () -> expenseService.addExpense(expense));
+        log.debug("Expense saved with id {}", saved.getId());
         return saved;
     }
 
+    /**
+     * Bulk import the current user's expenses from a CSV or XLSX bank statement.
+     * Returns the per-row errors and throughput; bad rows don't stop the import. If the file
+     * stops being readable part way, the result is returned as a 400 with the rows already
+     * imported and the error.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importExpenses(@RequestParam("file") MultipartFile file,
+                                            @CurrentUser CustomUserDetails currentUser) {
+        Long userId = getUserId(currentUser);
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Please select a file to import"));
+        }
+        try {
+            ExpenseImportResult result = expenseImportService.importExpenses(userId, file);
+            return result.getError() == null ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping
-    public List<Expense> getAllExpenses(@AuthenticationPrincipal UserDetails currentUser) {
-        User user = getUserFromDetails(currentUser);
-        System.out.println("DEBUG: Fetching expenses for user: " + user.getUsername() + " (ID: " + user.getId() + ")");
-        List<Expense> expenses = expenseService.getExpensesByUserId(user.getId());
-        System.out.println("DEBUG: Found " + expenses.size() + " expenses for user " + user.getId());
+    public List<ExpenseSummary> getAllExpenses(@CurrentUser CustomUserDetails currentUser) {
+        Long userId = getUserId(currentUser);
+        List<ExpenseSummary> expenses = timed("list", () -> expenseService.getExpensesByUserId(userId));
+        log.debug("Found {} expenses for user {}", expenses.size(), userId);
         return expenses;
     }
 
+    /**
+     * Keyset-paginated listing for the current user, newest first.
+     * Pass the returned nextCursor back as cursor to fetch the following page.
+     */
+    @GetMapping("/page")
+    public ExpensePage getExpensePage(@RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size,
+                                      @CurrentUser CustomUserDetails currentUser) {
+        Long userId = getUserId(currentUser);
+        return timed("page", () -> expenseService.getExpensePageByUserId(userId, cursor, size));
+    }
+
     @GetMapping("/type/{expenseType}")
     public List<Expense> getExpensesByType(@PathVariable String expenseType) {
         return expenseService.getExpensesByType(expenseType);
@@ -67,12 +118,15 @@ public class ExpenseController {
 
     @PutMapping("/{id}")
     public Expense updateExpense(@PathVariable Long id, @RequestBody Expense expenseDetails) {
-        return expenseService.updateExpense(id, expenseDetails);
+        return timed("update", () -> expenseService.updateExpense(id, expenseDetails));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteExpense(@PathVariable Long id) {
-        expenseService.deleteExpense(id);
+        timed("delete", () -> {
+            expenseService.deleteExpense(id);
+            return null;
+        });
         return ResponseEntity.ok().build();
     }
 
@@ -82,9 +136,16 @@ public class ExpenseController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Full-text search over the current user's expenses, best matches first (substring match under H2)
+     */
     @GetMapping("/search")
-    public List<Expense> searchExpenses(@RequestParam String keyword) {
-        return expenseService.searchByKeyword(keyword);
+    public ExpenseSearchPage searchExpenses(@RequestParam String keyword,
+                                            @RequestParam(required = false) Integer page,
+                                            @RequestParam(required = false) Integer size,
+                                            @CurrentUser CustomUserDetails currentUser) {
+        Long userId = getUserId(currentUser);
+        return timed("search", () -> expenseService.searchByKeyword(userId, keyword, page, size));
     }
 
     @GetMapping("/filter/category")
@@ -109,11 +170,28 @@ public class ExpenseController {
         return expenseService.filterByTypeAndCategory(expenseType, category);
     }
 
-    private User getUserFromDetails(UserDetails userDetails) {
-        if (userDetails == null) {
+    /**
+     * Record the call's latency as expenses.requests, tagged by endpoint and outcome
+     */
+    private <T> T timed(String endpoint, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("expenses.requests")
+                .description("Latency of the expense endpoints, including the commit")
+                .tags("endpoint", endpoint, "outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
+
+    private Long getUserId(CustomUserDetails currentUser) {
+        if (currentUser == null) {
             throw new RuntimeException("User not authenticated");
         }
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found in database"));
+        return currentUser.getId();
     }
 }
@@ -1,8 +1,14 @@
 package com.expenses_tracker.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,8 +16,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.expenses_tracker.entity.Notification;
+import com.expenses_tracker.security.CurrentUser;
+import com.expenses_tracker.security.CustomUserDetails;
 import com.expenses_tracker.service.NotificationService;
 
 @RestController
@@ -22,6 +32,27 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    /**
+     * Server-Sent Events stream of the current user's notifications. Sends an unread-count
+     * event on connect and on every change, a notification event for each new notification,
+     * and resync when the client fell behind and should reload. Browsers reconnect on their own.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(@CurrentUser CustomUserDetails currentUser) {
+        if (currentUser == null) {
+            throw new RuntimeException("User not authenticated");
+        }
+        try {
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                // Stops nginx buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(notificationService.openStream(currentUser.getId()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     /**
      * Get all notifications for a specific user
      */
@@ -38,6 +69,23 @@ public class NotificationController {
         return notificationService.getUnreadNotificationsByUserId(userId);
     }
 
+    /**
+     * Number of unread notifications for a user, from the in-memory counter. The ETag is
+     * the count itself, so a client revalidating with If-None-Match gets 304 until it changes.
+     */
+    @GetMapping("/{userId}/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Long userId, WebRequest request) {
+        long count = notificationService.getUnreadCount(userId);
+        String eTag = "\"unread-" + userId + "-" + count + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(eTag)
+            .body(Map.of("count", count));
+    }
+
     /**
      * Mark a specific notification as read
      */
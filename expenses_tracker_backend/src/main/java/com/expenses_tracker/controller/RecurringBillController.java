@@ -20,6 +20,7 @@ import com.expenses_tracker.entity.RecurringBill;
 import com.expenses_tracker.entity.User;
 import com.expenses_tracker.repository.RecurringBillRepository;
 import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.service.BillReminderScheduler;
 import com.expenses_tracker.service.NotificationService;
 
 @RestController
@@ -36,6 +37,9 @@ public class RecurringBillController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private BillReminderScheduler billReminderScheduler;
+
     /**
      * Create a new recurring bill
      */
@@ -78,7 +82,9 @@ public class RecurringBillController {
         }
         
         recurringBill.setUser(user);
-        return recurringBillRepository.save(recurringBill);
+        RecurringBill savedBill = recurringBillRepository.save(recurringBill);
+        billReminderScheduler.schedule(savedBill);
+        return savedBill;
     }
 
     /**
@@ -145,7 +151,9 @@ public class RecurringBillController {
             existingBill.setReminderMinute(recurringBillDetails.getReminderMinute());
         }
 
-        return recurringBillRepository.save(existingBill);
+        RecurringBill savedBill = recurringBillRepository.save(existingBill);
+        billReminderScheduler.schedule(savedBill);
+        return savedBill;
     }
 
     /**
@@ -159,7 +167,9 @@ public class RecurringBillController {
         bill.setIsPaid(true);
         bill.setPaidDate(LocalDate.now());
         
-        return recurringBillRepository.save(bill);
+        RecurringBill savedBill = recurringBillRepository.save(bill);
+        billReminderScheduler.schedule(savedBill);
+        return savedBill;
     }
 
     /**
@@ -177,6 +187,7 @@ public class RecurringBillController {
         bill.setPaidDate(null);
         
         RecurringBill savedBill = recurringBillRepository.save(bill);
+        billReminderScheduler.schedule(savedBill);
         
         // Create notification if bill was moved from next cycle to current cycle
         if (wasInNextCycle && bill.getNextDueDate() != null) {
@@ -190,7 +201,8 @@ public class RecurringBillController {
                 dueDate.toString(),
                 bill.getAmount());
             
-            notificationService.createNotification(bill.getUser().getId(), message);
+            notificationService.createNotification(bill.getUser().getId(), NotificationService.KIND_BILL_DUE,
+                String.valueOf(savedBill.getId()), message);
         }
         
         return savedBill;
@@ -204,5 +216,6 @@ public class RecurringBillController {
         RecurringBill recurringBill = recurringBillRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Recurring bill not found with id: " + id));
         recurringBillRepository.delete(recurringBill);
+        billReminderScheduler.cancel(id);
     }
 }
@@ -3,21 +3,28 @@ package com.expenses_tracker.controller;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.dto.ReportFormat;
+import com.expenses_tracker.dto.ReportJob;
+import com.expenses_tracker.security.CurrentUser;
+import com.expenses_tracker.security.CustomUserDetails;
+import com.expenses_tracker.service.ReportJobService;
 import com.expenses_tracker.service.ReportService;
 
 @RestController
@@ -29,7 +36,7 @@ public class ReportController {
     private ReportService reportService;
 
     @Autowired
-    private UserRepository userRepository;
+    private ReportJobService reportJobService;
 
     /**
      * Generate user expense report in specified format
@@ -37,7 +44,7 @@ public class ReportController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<?> generateUserReport(@PathVariable Long userId,
                                               @RequestParam String format,
-                                              @AuthenticationPrincipal UserDetails currentUser) {
+                                              @CurrentUser CustomUserDetails currentUser) {
         try {
             // Validate user access
             validateUserAccess(userId, currentUser);
@@ -47,38 +54,83 @@ public class ReportController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Invalid format. Supported: csv, excel, pdf"));
             }
             
-            byte[] reportData;
-            String contentType;
-            String fileExtension;
+            // Reports are written straight to the response as rows are read, nothing is buffered.
+            // The status is sent before the body, so anything that should be a 400 is checked first.
+            reportService.checkUserExists(userId);
+            ReportFormat reportFormat = ReportFormat.from(format);
+            StreamingResponseBody body = outputStream -> reportService.writeUserReport(userId, reportFormat, outputStream);
+            String filename = reportFilename(userId, reportFormat.getFileExtension());
             
-            switch (format.toLowerCase()) {
-                case "csv":
-                    reportData = reportService.generateUserCSVReport(userId);
-                    contentType = "text/csv";
-                    fileExtension = "csv";
-                    break;
-                case "excel":
-                    reportData = reportService.generateUserExcelReport(userId);
-                    contentType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-                    fileExtension = "xlsx";
-                    break;
-                case "pdf":
-                    reportData = reportService.generateUserPDFReport(userId);
-                    contentType = "application/pdf";
-                    fileExtension = "pdf";
-                    break;
-                default:
-                    return ResponseEntity.badRequest().body(Map.of("error", "Unsupported format"));
+            return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(reportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+                
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Queue a report to be rendered in the background. Returns the job to poll;
+     * if the same report is already cached for the user's current data, that job is returned.
+     */
+    @PostMapping("/user/{userId}/jobs")
+    public ResponseEntity<?> createReportJob(@PathVariable Long userId,
+                                             @RequestParam String format,
+                                             @CurrentUser CustomUserDetails currentUser) {
+        try {
+            validateUserAccess(userId, currentUser);
+            ReportJob job = reportJobService.submit(userId, ReportFormat.from(format));
+            return ResponseEntity.accepted().body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", "Too many reports are being generated, please try again shortly"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the status of a report job
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getReportJob(@PathVariable String jobId,
+                                          @CurrentUser CustomUserDetails currentUser) {
+        try {
+            ReportJob job = reportJobService.getJob(jobId);
+            if (job == null) {
+                return ResponseEntity.notFound().build();
+            }
+            validateUserAccess(job.getUserId(), currentUser);
+            return ResponseEntity.ok(job);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Download the file rendered by a finished report job
+     */
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<?> downloadReportJob(@PathVariable String jobId,
+                                               @CurrentUser CustomUserDetails currentUser) {
+        try {
+            ReportJob job = reportJobService.getJob(jobId);
+            if (job == null) {
+                return ResponseEntity.notFound().build();
+            }
+            validateUserAccess(job.getUserId(), currentUser);
+            if (job.getStatus() != ReportJob.Status.DONE) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(job);
             }
             
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String filename = String.format("user_expenses_%d_%s.%s", userId, timestamp, fileExtension);
-            
+            String filename = reportFilename(job.getUserId(), job.getFormat().getFileExtension());
             return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .contentLength(job.getSizeBytes())
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                .body(reportData);
-                
+                .body(new FileSystemResource(job.getFile()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -99,21 +151,22 @@ public class ReportController {
         ));
     }
 
-    private void validateUserAccess(Long userId, UserDetails currentUser) {
+    private void validateUserAccess(Long userId, CustomUserDetails currentUser) {
         if (currentUser == null) {
             throw new RuntimeException("User not authenticated");
         }
         
-        var currentUserEntity = userRepository.findByUsername(currentUser.getUsername())
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        
         // Check if user is accessing their own data or is admin
-        if (!currentUserEntity.getId().equals(userId) && 
-            !currentUserEntity.getRoles().stream().anyMatch(role -> role.getName().name().equals("ROLE_ADMIN"))) {
+        if (!currentUser.getId().equals(userId) && !currentUser.isAdmin()) {
             throw new RuntimeException("Access denied");
         }
     }
 
+    private String reportFilename(Long userId, String fileExtension) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return String.format("user_expenses_%d_%s.%s", userId, timestamp, fileExtension);
+    }
+
     private boolean isValidFormat(String format) {
         return format != null && (format.equalsIgnoreCase("csv") || 
                                  format.equalsIgnoreCase("excel") || 
@@ -4,8 +4,6 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +14,9 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.expenses_tracker.entity.User;
 import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.security.CurrentUser;
+import com.expenses_tracker.security.CustomUserDetails;
+import com.expenses_tracker.service.UserCache;
 
 @RestController
 @RequestMapping("/api/users")
@@ -25,23 +26,24 @@ public class UserPreferencesController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     /**
      * Get user preferences
      */
     @GetMapping("/{id}/preferences")
     public ResponseEntity<?> getUserPreferences(@PathVariable Long id,
-                                               @AuthenticationPrincipal UserDetails currentUser) {
+                                               @CurrentUser CustomUserDetails currentUser) {
         try {
-            User currentUserEntity = getUserFromDetails(currentUser);
+            checkAuthenticated(currentUser);
             
             // Check if user is accessing their own preferences or is admin
-            if (!currentUserEntity.getId().equals(id) && 
-                !currentUserEntity.getRoles().stream().anyMatch(role -> role.getName().name().equals("ROLE_ADMIN"))) {
+            if (!currentUser.getId().equals(id) && !currentUser.isAdmin()) {
                 return ResponseEntity.status(403).body(Map.of("error", "Access denied"));
             }
             
-            User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            User user = userCache.get(id);
             
             Map<String, Object> preferences = Map.of(
                 "darkMode", user.isDarkMode(),
@@ -61,13 +63,12 @@ public class UserPreferencesController {
     @PutMapping("/{id}/preferences")
     public ResponseEntity<?> updateUserPreferences(@PathVariable Long id,
                                                  @RequestBody Map<String, Object> preferences,
-                                                 @AuthenticationPrincipal UserDetails currentUser) {
+                                                 @CurrentUser CustomUserDetails currentUser) {
         try {
-            User currentUserEntity = getUserFromDetails(currentUser);
+            checkAuthenticated(currentUser);
             
             // Check if user is updating their own preferences or is admin
-            if (!currentUserEntity.getId().equals(id) && 
-                !currentUserEntity.getRoles().stream().anyMatch(role -> role.getName().name().equals("ROLE_ADMIN"))) {
+            if (!currentUser.getId().equals(id) && !currentUser.isAdmin()) {
                 return ResponseEntity.status(403).body(Map.of("error", "Access denied"));
             }
             
@@ -105,11 +106,9 @@ public class UserPreferencesController {
         }
     }
 
-    private User getUserFromDetails(UserDetails userDetails) {
-        if (userDetails == null) {
+    private void checkAuthenticated(CustomUserDetails currentUser) {
+        if (currentUser == null) {
             throw new RuntimeException("User not authenticated");
         }
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found in database"));
     }
 }
@@ -0,0 +1,25 @@
+package com.expenses_tracker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * When a recurring bill's next reminder is due, without loading the bill itself
+ */
+public class BillReminderTime {
+
+    private final Long billId;
+    private final LocalDateTime nextReminderAt;
+
+    public BillReminderTime(Long billId, LocalDateTime nextReminderAt) {
+        this.billId = billId;
+        this.nextReminderAt = nextReminderAt;
+    }
+
+    public Long getBillId() {
+        return billId;
+    }
+
+    public LocalDateTime getNextReminderAt() {
+        return nextReminderAt;
+    }
+}
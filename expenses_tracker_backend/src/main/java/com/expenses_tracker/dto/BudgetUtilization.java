@@ -0,0 +1,65 @@
+package com.expenses_tracker.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import com.expenses_tracker.entity.Money;
+
+/**
+ * Spending against one budget's limit
+ */
+public class BudgetUtilization {
+
+    private final Long budgetId;
+    private final String category;
+    private final Money limitAmount;
+    private final Money spent;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public BudgetUtilization(Long budgetId, String category, Money limitAmount, Money spent,
+                             LocalDate startDate, LocalDate endDate) {
+        this.budgetId = budgetId;
+        this.category = category;
+        this.limitAmount = limitAmount;
+        this.spent = spent != null ? spent : Money.ZERO;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public Long getBudgetId() {
+        return budgetId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Money getLimitAmount() {
+        return limitAmount;
+    }
+
+    public Money getSpent() {
+        return spent;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Percentage of the limit already spent (may exceed 100)
+     */
+    public BigDecimal getPercentUsed() {
+        if (limitAmount == null || limitAmount.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(spent.getMinorUnits()).multiply(BigDecimal.valueOf(100))
+            .divide(BigDecimal.valueOf(limitAmount.getMinorUnits()), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,33 @@
+package com.expenses_tracker.dto;
+
+import java.math.BigDecimal;
+
+import com.expenses_tracker.entity.Money;
+
+/**
+ * Aggregated spending for one category
+ */
+public class CategoryTotal {
+
+    private final String category;
+    private final Money amount;
+    private final long count;
+
+    public CategoryTotal(String category, BigDecimal amount, Long count) {
+        this.category = category != null ? category : "Other";
+        this.amount = Money.ofNullable(amount);
+        this.count = count != null ? count : 0L;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
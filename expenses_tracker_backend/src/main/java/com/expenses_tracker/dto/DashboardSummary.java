@@ -0,0 +1,103 @@
+package com.expenses_tracker.dto;
+
+import java.util.List;
+
+import com.expenses_tracker.entity.Money;
+
+/**
+ * Pre-aggregated figures for the dashboard, so the client no longer
+ * needs to download every expense to compute them.
+ */
+public class DashboardSummary {
+
+    private Money totalSpent;
+    private long expenseCount;
+    private Money currentMonthSpent;
+    private long unreadNotifications;
+    private List<CategoryTotal> categoryTotals;
+    private List<PeriodTotal> weeklyTotals;
+    private List<PeriodTotal> monthlyTotals;
+    private List<PeriodTotal> yearlyTotals;
+    private List<BudgetUtilization> budgets;
+    private List<ExpenseSummary> recentExpenses;
+
+    public Money getTotalSpent() {
+        return totalSpent;
+    }
+
+    public void setTotalSpent(Money totalSpent) {
+        this.totalSpent = totalSpent;
+    }
+
+    public long getExpenseCount() {
+        return expenseCount;
+    }
+
+    public void setExpenseCount(long expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+
+    public Money getCurrentMonthSpent() {
+        return currentMonthSpent;
+    }
+
+    public void setCurrentMonthSpent(Money currentMonthSpent) {
+        this.currentMonthSpent = currentMonthSpent;
+    }
+
+    public long getUnreadNotifications() {
+        return unreadNotifications;
+    }
+
+    public void setUnreadNotifications(long unreadNotifications) {
+        this.unreadNotifications = unreadNotifications;
+    }
+
+    public List<CategoryTotal> getCategoryTotals() {
+        return categoryTotals;
+    }
+
+    public void setCategoryTotals(List<CategoryTotal> categoryTotals) {
+        this.categoryTotals = categoryTotals;
+    }
+
+    public List<PeriodTotal> getWeeklyTotals() {
+        return weeklyTotals;
+    }
+
+    public void setWeeklyTotals(List<PeriodTotal> weeklyTotals) {
+        this.weeklyTotals = weeklyTotals;
+    }
+
+    public List<PeriodTotal> getMonthlyTotals() {
+        return monthlyTotals;
+    }
+
+    public void setMonthlyTotals(List<PeriodTotal> monthlyTotals) {
+        this.monthlyTotals = monthlyTotals;
+    }
+
+    public List<PeriodTotal> getYearlyTotals() {
+        return yearlyTotals;
+    }
+
+    public void setYearlyTotals(List<PeriodTotal> yearlyTotals) {
+        this.yearlyTotals = yearlyTotals;
+    }
+
+    public List<BudgetUtilization> getBudgets() {
+        return budgets;
+    }
+
+    public void setBudgets(List<BudgetUtilization> budgets) {
+        this.budgets = budgets;
+    }
+
+    public List<ExpenseSummary> getRecentExpenses() {
+        return recentExpenses;
+    }
+
+    public void setRecentExpenses(List<ExpenseSummary> recentExpenses) {
+        this.recentExpenses = recentExpenses;
+    }
+}
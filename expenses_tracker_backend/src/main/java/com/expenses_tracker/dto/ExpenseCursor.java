@@ -0,0 +1,57 @@
+package com.expenses_tracker.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Opaque keyset position in a user's expense list, ordered by (date DESC, id DESC).
+ * Clients only ever see the encoded token and pass it back unchanged.
+ */
+public class ExpenseCursor {
+
+    private final LocalDate date;
+    private final Long id;
+
+    public ExpenseCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    public static ExpenseCursor of(ExpenseSummary expense) {
+        return new ExpenseCursor(expense.getDate(), expense.getId());
+    }
+
+    /**
+     * Encode as a URL-safe token
+     */
+    public String encode() {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}; a malformed token is a 400 Bad Request
+     */
+    public static ExpenseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new ExpenseCursor(LocalDate.parse(raw.substring(0, separator)),
+                                     Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor: " + token, e);
+        }
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,120 @@
+package com.expenses_tracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk expense import: how many rows were read and saved, the rows that
+ * were rejected (up to a limit), why reading stopped early if it did, and how fast the
+ * file was processed.
+ */
+public class ExpenseImportResult {
+
+    /**
+     * A rejected row; row numbers are 1-based and count the header row
+     */
+    public static class RowError {
+
+        private final int row;
+        private final String message;
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private final String fileName;
+    private final String format;
+    private final int maxErrors;
+
+    private int rowsRead;
+    private int imported;
+    private int failed;
+    private final List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private String error;
+    private long elapsedMillis;
+
+    public ExpenseImportResult(String fileName, String format, int maxErrors) {
+        this.fileName = fileName;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    /**
+     * Why the file stopped being read part way through, or null if it was read to the end
+     */
+    public String getError() {
+        return error;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000.0 / elapsedMillis;
+    }
+
+    public void recordRead() {
+        rowsRead++;
+    }
+
+    public void recordImported(int rows) {
+        imported += rows;
+    }
+
+    public void recordError(int row, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public void recordFailure(String message) {
+        this.error = message;
+    }
+
+    public void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
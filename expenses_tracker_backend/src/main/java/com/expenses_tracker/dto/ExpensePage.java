@@ -0,0 +1,31 @@
+package com.expenses_tracker.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated expense listing
+ */
+public class ExpensePage {
+
+    private final List<ExpenseSummary> items;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public ExpensePage(List<ExpenseSummary> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<ExpenseSummary> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,39 @@
+package com.expenses_tracker.dto;
+
+import java.util.List;
+
+import com.expenses_tracker.entity.Expense;
+
+/**
+ * One page of expense search results, best matches first
+ */
+public class ExpenseSearchPage {
+
+    private final List<Expense> items;
+    private final int page;
+    private final int size;
+    private final boolean hasMore;
+
+    public ExpenseSearchPage(List<Expense> items, int page, int size, boolean hasMore) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+    }
+
+    public List<Expense> getItems() {
+        return items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,70 @@
+package com.expenses_tracker.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The columns of an expense that list endpoints return, selected directly by the
+ * repository instead of loading Expense entities. Serializes to the same JSON as Expense.
+ */
+public class ExpenseSummary {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final BigDecimal amount;
+    private final LocalDate date;
+    private final String paymentMethod;
+    private final boolean pinned;
+    private final String expenseType;
+    private final String category;
+
+    public ExpenseSummary(Long id, String title, String description, BigDecimal amount, LocalDate date,
+                          String paymentMethod, boolean pinned, String expenseType, String category) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.amount = amount;
+        this.date = date;
+        this.paymentMethod = paymentMethod;
+        this.pinned = pinned;
+        this.expenseType = expenseType;
+        this.category = category;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    public String getExpenseType() {
+        return expenseType;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
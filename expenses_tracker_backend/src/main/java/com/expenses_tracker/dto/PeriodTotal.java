@@ -0,0 +1,42 @@
+package com.expenses_tracker.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.expenses_tracker.entity.Money;
+
+/**
+ * Aggregated spending for one time bucket. The period key is "yyyy" for years,
+ * "yyyy-MM" for months, "yyyy-MM-dd" for days and the number of weeks ago for weeks.
+ */
+public class PeriodTotal {
+
+    private final String period;
+    private final Money amount;
+
+    public PeriodTotal(String period, Money amount) {
+        this.period = period;
+        this.amount = amount != null ? amount : Money.ZERO;
+    }
+
+    // Used by JPQL constructor expressions in ExpenseRepository
+    public PeriodTotal(Integer year, BigDecimal amount) {
+        this(String.valueOf(year), Money.ofNullable(amount));
+    }
+
+    public PeriodTotal(Integer year, Integer month, BigDecimal amount) {
+        this(String.format("%d-%02d", year, month), Money.ofNullable(amount));
+    }
+
+    public PeriodTotal(LocalDate date, BigDecimal amount) {
+        this(date.toString(), Money.ofNullable(amount));
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+}
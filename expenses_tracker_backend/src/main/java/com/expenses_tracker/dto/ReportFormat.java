@@ -0,0 +1,41 @@
+package com.expenses_tracker.dto;
+
+/**
+ * Supported report formats with their content type and file extension
+ */
+public enum ReportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    EXCEL("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+    PDF("application/pdf", "pdf");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ReportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Parse a format name case-insensitively (csv, excel, pdf)
+     */
+    public static ReportFormat from(String format) {
+        if (format != null) {
+            for (ReportFormat value : values()) {
+                if (value.name().equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+        }
+        throw new RuntimeException("Invalid format. Supported: csv, excel, pdf");
+    }
+}
@@ -0,0 +1,94 @@
+package com.expenses_tracker.dto;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A report rendered in the background. Returned by the report job endpoints for status polling;
+ * once DONE the rendered file can be downloaded until it expires from the report cache.
+ */
+public class ReportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    private final String id;
+    private final Long userId;
+    private final ReportFormat format;
+    private final long dataVersion;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime completedAt;
+    private volatile String error;
+    private volatile long sizeBytes;
+    private volatile Path file;
+
+    public ReportJob(String id, Long userId, ReportFormat format, long dataVersion) {
+        this.id = id;
+        this.userId = userId;
+        this.format = format;
+        this.dataVersion = dataVersion;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public long getDataVersion() {
+        return dataVersion;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    @JsonIgnore
+    public Path getFile() {
+        return file;
+    }
+
+    public void markRunning() {
+        this.status = Status.RUNNING;
+    }
+
+    public void markDone(Path file, long sizeBytes) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.DONE;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+}
@@ -5,28 +5,44 @@ import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 
+import com.expenses_tracker.service.ReportDataChangeListener;
+
+// Indexes are managed by the Flyway migrations in src/main/resources/db/migration
 @Entity
+@EntityListeners(ReportDataChangeListener.class)
 public class Budget {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budget_seq")
+    @SequenceGenerator(name = "budget_seq", sequenceName = "budget_seq", allocationSize = 50)
     private Long id;
 
     private String category;
-    private BigDecimal limitAmount;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money limitAmount;
+
     private LocalDate startDate;
     private LocalDate endDate;
 
+    // Running total of expenses in this budget's category and date range.
+    // Maintained incrementally on expense writes; see BudgetSpendingService. Stays BigDecimal
+    // because those writes add to it in JPQL, which can't do arithmetic on a converted attribute.
+    private BigDecimal spentAmount = BigDecimal.ZERO;
+
     // Relationship to User
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
     private User user;
@@ -34,7 +50,7 @@ public class Budget {
     // Constructors
     public Budget() {}
 
-    public Budget(String category, BigDecimal limitAmount, LocalDate startDate, LocalDate endDate, User user) {
+    public Budget(String category, Money limitAmount, LocalDate startDate, LocalDate endDate, User user) {
         this.category = category;
         this.limitAmount = limitAmount;
         this.startDate = startDate;
@@ -59,11 +75,11 @@ public class Budget {
         this.category = category;
     }
 
-    public BigDecimal getLimitAmount() {
+    public Money getLimitAmount() {
         return limitAmount;
     }
 
-    public void setLimitAmount(BigDecimal limitAmount) {
+    public void setLimitAmount(Money limitAmount) {
         this.limitAmount = limitAmount;
     }
 
@@ -83,6 +99,14 @@ public class Budget {
         this.endDate = endDate;
     }
 
+    public BigDecimal getSpentAmount() {
+        return spentAmount != null ? spentAmount : BigDecimal.ZERO;
+    }
+
+    public void setSpentAmount(BigDecimal spentAmount) {
+        this.spentAmount = spentAmount;
+    }
+
     public User getUser() {
         return user;
     }
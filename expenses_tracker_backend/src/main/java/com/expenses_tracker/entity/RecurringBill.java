@@ -2,22 +2,36 @@ package com.expenses_tracker.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 
+import com.expenses_tracker.service.ReportDataChangeListener;
+
+// Indexes are managed by the Flyway migrations in src/main/resources/db/migration
 @Entity
+@EntityListeners(ReportDataChangeListener.class)
 public class RecurringBill {
 
+    public static final int DEFAULT_REMINDER_DAYS_BEFORE = 2;
+    public static final int DEFAULT_REMINDER_HOUR = 9;
+    public static final int DEFAULT_REMINDER_MINUTE = 0;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_bill_seq")
+    @SequenceGenerator(name = "recurring_bill_seq", sequenceName = "recurring_bill_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -33,13 +47,16 @@ public class RecurringBill {
     private Integer reminderDaysBefore; // How many days before due date to send reminder (default: 2)
     private Integer reminderHour; // Hour of day to send reminder (0-23, default: 9 for 9 AM)
     private Integer reminderMinute; // Minute of hour to send reminder (0-59, default: 0)
+
+    // When the next reminder is due; derived from nextDueDate and the reminder settings on every save
+    private LocalDateTime nextReminderAt;
     
     // Payment tracking
     private Boolean isPaid = false; // Whether the current bill cycle is paid
     private LocalDate paidDate; // Date when bill was marked as paid
 
     // Relationship to User
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
     private User user;
@@ -178,4 +195,43 @@ public class RecurringBill {
     public void setPaidDate(LocalDate paidDate) {
         this.paidDate = paidDate;
     }
+
+    public LocalDateTime getNextReminderAt() {
+        return nextReminderAt;
+    }
+
+    public void setNextReminderAt(LocalDateTime nextReminderAt) {
+        this.nextReminderAt = nextReminderAt;
+    }
+
+    @JsonIgnore
+    public int getEffectiveReminderDaysBefore() {
+        return reminderDaysBefore != null ? reminderDaysBefore : DEFAULT_REMINDER_DAYS_BEFORE;
+    }
+
+    @JsonIgnore
+    public int getEffectiveReminderHour() {
+        return reminderHour != null ? reminderHour : DEFAULT_REMINDER_HOUR;
+    }
+
+    @JsonIgnore
+    public int getEffectiveReminderMinute() {
+        return reminderMinute != null ? reminderMinute : DEFAULT_REMINDER_MINUTE;
+    }
+
+    /**
+     * Recompute nextReminderAt from the due date and reminder settings.
+     * Runs on every insert and update, so creating, editing, paying or
+     * rolling a bill over to its next cycle all keep it current.
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshNextReminderAt() {
+        if (nextDueDate == null) {
+            nextReminderAt = null;
+            return;
+        }
+        nextReminderAt = nextDueDate.minusDays(getEffectiveReminderDaysBefore())
+            .atTime(getEffectiveReminderHour(), getEffectiveReminderMinute());
+    }
 }
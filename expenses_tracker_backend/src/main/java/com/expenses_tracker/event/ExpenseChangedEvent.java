@@ -0,0 +1,32 @@
+package com.expenses_tracker.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published when an expense is created or edited, so budget alerts
+ * can be evaluated off the request thread.
+ */
+public class ExpenseChangedEvent {
+
+    private final Long userId;
+    private final String category;
+    private final LocalDate date;
+
+    public ExpenseChangedEvent(Long userId, String category, LocalDate date) {
+        this.userId = userId;
+        this.category = category;
+        this.date = date;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+}
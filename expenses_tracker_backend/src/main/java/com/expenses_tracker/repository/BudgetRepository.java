@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,6 +30,12 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
                                                        @Param("category") String category, 
                                                        @Param("expenseDate") LocalDate expenseDate);
 
+    /**
+     * Find all budgets for a user whose date range contains the given date
+     */
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND :date BETWEEN b.startDate AND b.endDate")
+    List<Budget> findActiveBudgetsByUserId(@Param("userId") Long userId, @Param("date") LocalDate date);
+
     /**
      * Calculate total spending for a user and category within a budget's date range
      */
@@ -38,4 +45,37 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
                                                        @Param("category") String category, 
                                                        @Param("startDate") LocalDate startDate, 
                                                        @Param("endDate") LocalDate endDate);
+
+    /**
+     * Apply a spending delta to every budget covering the given user, category and date. The
+     * persistence context is not cleared, as callers still hold the expense being saved; a Budget
+     * already loaded in the same transaction keeps its old spentAmount.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Budget b SET b.spentAmount = COALESCE(b.spentAmount, 0) + :delta " +
+           "WHERE b.user.id = :userId AND b.category = :category " +
+           "AND :expenseDate BETWEEN b.startDate AND b.endDate")
+    int addToSpentAmount(@Param("userId") Long userId,
+                         @Param("category") String category,
+                         @Param("expenseDate") LocalDate expenseDate,
+                         @Param("delta") BigDecimal delta);
+
+    /**
+     * Rebuild the running spent amount of every budget from the expense table
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Budget b SET b.spentAmount = (SELECT COALESCE(SUM(e.amount), 0) FROM Expense e " +
+           "WHERE e.user.id = b.user.id AND e.category = b.category " +
+           "AND e.date BETWEEN b.startDate AND b.endDate)")
+    int recalculateAllSpentAmounts();
+
+    /**
+     * Rebuild the running spent amount of a single user's budgets from the expense table
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Budget b SET b.spentAmount = (SELECT COALESCE(SUM(e.amount), 0) FROM Expense e " +
+           "WHERE e.user.id = b.user.id AND e.category = b.category " +
+           "AND e.date BETWEEN b.startDate AND b.endDate) " +
+           "WHERE b.user.id = :userId")
+    int recalculateSpentAmountsByUserId(@Param("userId") Long userId);
 }
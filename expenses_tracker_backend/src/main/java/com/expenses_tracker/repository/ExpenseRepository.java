@@ -2,12 +2,24 @@ package com.expenses_tracker.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.expenses_tracker.dto.CategoryTotal;
+import com.expenses_tracker.dto.ExpenseSummary;
+import com.expenses_tracker.dto.PeriodTotal;
 import com.expenses_tracker.entity.Expense;
 
 @Repository
@@ -39,13 +51,25 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByExpenseTypeIgnoreCaseAndCategoryIgnoreCase(String expenseType, String category);
 
     /**
-     * Searches for a keyword in title, description, and category (string).
+     * Ranked full-text search over a user's expenses (title, description, category).
+     * Backed by the ft_expense_text FULLTEXT index; the query uses MySQL boolean mode syntax.
+     */
+    @Query(value = "SELECT * FROM expense e WHERE e.user_id = :userId " +
+                   "AND MATCH(e.title, e.description, e.category) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY MATCH(e.title, e.description, e.category) AGAINST (:query IN BOOLEAN MODE) DESC, e.id DESC",
+           nativeQuery = true)
+    Slice<Expense> searchByUserId(@Param("userId") Long userId, @Param("query") String query, Pageable pageable);
+
+    /**
+     * Unranked substring search over a user's expenses (title, description, category), for databases
+     * without MySQL full-text search such as the H2 profile (expenses.search.full-text=false)
      */
-    @Query("SELECT e FROM Expense e WHERE " +
+    @Query("SELECT e FROM Expense e WHERE e.user.id = :userId AND (" +
            "LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.category) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Expense> searchExpenses(@Param("keyword") String keyword);
+           "LOWER(e.category) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY e.id DESC")
+    Slice<Expense> searchByUserIdContaining(@Param("userId") Long userId, @Param("keyword") String keyword,
+                                            Pageable pageable);
 
     /**
      * Find expenses by user ID
@@ -53,12 +77,87 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByUserId(Long userId);
 
     /**
-     * Find expenses by user ID, ordered by newest first
+     * Stream a user's expenses row by row instead of materializing the whole list. A fetch size of
+     * Integer.MIN_VALUE is MySQL Connector/J's streaming mode: no other statement can run on the
+     * connection until the stream is closed, so it must be consumed inside a transaction without
+     * querying anything else per row, and closed afterwards.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Expense e WHERE e.user.id = :userId ORDER BY e.id")
+    Stream<Expense> streamByUserId(@Param("userId") Long userId);
+
+    /**
+     * A user's expenses for listing, newest first; selects only the listed columns
      */
-    List<Expense> findByUserIdOrderByDateDesc(Long userId);
+    @Query("SELECT new com.expenses_tracker.dto.ExpenseSummary(e.id, e.title, e.description, e.amount, e.date, " +
+           "e.paymentMethod, e.isPinned, e.expenseType, e.category) " +
+           "FROM Expense e WHERE e.user.id = :userId ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * First page of a user's expenses, newest first (keyset pagination)
+     */
+    @Query("SELECT new com.expenses_tracker.dto.ExpenseSummary(e.id, e.title, e.description, e.amount, e.date, " +
+           "e.paymentMethod, e.isPinned, e.expenseType, e.category) " +
+           "FROM Expense e WHERE e.user.id = :userId ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseSummary> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Next page of a user's expenses, strictly after the given (date, id) position.
+     * Seeks on the (user_id, date, id) index instead of skipping rows with OFFSET.
+     */
+    @Query("SELECT new com.expenses_tracker.dto.ExpenseSummary(e.id, e.title, e.description, e.amount, e.date, " +
+           "e.paymentMethod, e.isPinned, e.expenseType, e.category) " +
+           "FROM Expense e WHERE e.user.id = :userId " +
+           "AND (e.date < :date OR (e.date = :date AND e.id < :id)) " +
+           "ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseSummary> findPageByUserIdAfter(@Param("userId") Long userId,
+                                               @Param("date") LocalDate date,
+                                               @Param("id") Long id,
+                                               Limit limit);
 
     /**
      * Find all expenses ordered by newest first
      */
     List<Expense> findAllByOrderByDateDesc();
+
+    /**
+     * Total spending and expense count per expense type (PERSONAL / PROFESSIONAL) for a user
+     */
+    @Query("SELECT new com.expenses_tracker.dto.CategoryTotal(UPPER(e.expenseType), SUM(e.amount), COUNT(e)) " +
+           "FROM Expense e WHERE e.user.id = :userId GROUP BY UPPER(e.expenseType)")
+    List<CategoryTotal> sumAmountByExpenseType(@Param("userId") Long userId);
+
+    /**
+     * Total spending and expense count per category for a user
+     */
+    @Query("SELECT new com.expenses_tracker.dto.CategoryTotal(e.category, SUM(e.amount), COUNT(e)) " +
+           "FROM Expense e WHERE e.user.id = :userId GROUP BY e.category ORDER BY SUM(e.amount) DESC")
+    List<CategoryTotal> sumAmountByCategory(@Param("userId") Long userId);
+
+    /**
+     * Total spending per day for a user since the given date
+     */
+    @Query("SELECT new com.expenses_tracker.dto.PeriodTotal(e.date, SUM(e.amount)) " +
+           "FROM Expense e WHERE e.user.id = :userId AND e.date >= :since " +
+           "GROUP BY e.date ORDER BY e.date")
+    List<PeriodTotal> sumAmountByDaySince(@Param("userId") Long userId, @Param("since") LocalDate since);
+
+    /**
+     * Total spending per calendar month for a user since the given date
+     */
+    @Query("SELECT new com.expenses_tracker.dto.PeriodTotal(YEAR(e.date), MONTH(e.date), SUM(e.amount)) " +
+           "FROM Expense e WHERE e.user.id = :userId AND e.date >= :since " +
+           "GROUP BY YEAR(e.date), MONTH(e.date) ORDER BY YEAR(e.date), MONTH(e.date)")
+    List<PeriodTotal> sumAmountByMonthSince(@Param("userId") Long userId, @Param("since") LocalDate since);
+
+    /**
+     * Total spending per calendar year for a user
+     */
+    @Query("SELECT new com.expenses_tracker.dto.PeriodTotal(YEAR(e.date), SUM(e.amount)) " +
+           "FROM Expense e WHERE e.user.id = :userId GROUP BY YEAR(e.date) ORDER BY YEAR(e.date)")
+    List<PeriodTotal> sumAmountByYear(@Param("userId") Long userId);
 }
@@ -3,6 +3,9 @@ package com.expenses_tracker.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.expenses_tracker.entity.Notification;
@@ -24,4 +27,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * Find all read notifications for a specific user, ordered by newest first
      */
     List<Notification> findByUserIdAndIsReadTrueOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * Count unread notifications for a specific user
+     */
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    /**
+     * Check whether a notification with this dedupe key already exists
+     */
+    boolean existsByDedupeKey(String dedupeKey);
+
+    /**
+     * Mark every unread notification of a user as read in a single UPDATE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    /**
+     * Delete every notification of a user in a single DELETE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
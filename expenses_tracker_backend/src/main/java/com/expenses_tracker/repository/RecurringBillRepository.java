@@ -1,10 +1,14 @@
 package com.expenses_tracker.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.expenses_tracker.dto.BillReminderTime;
 import com.expenses_tracker.entity.RecurringBill;
 
 @Repository
@@ -19,4 +23,17 @@ public interface RecurringBillRepository extends JpaRepository<RecurringBill, Lo
      * Find recurring bills that are due on a specific day of the month
      */
     List<RecurringBill> findByDayOfMonthDue(int dayOfMonth);
+
+    /**
+     * Find the reminder times of bills whose next reminder falls in [from, to). Only the id and
+     * time are selected, so the query is answered from the next_reminder_at index alone.
+     */
+    @Query("SELECT new com.expenses_tracker.dto.BillReminderTime(b.id, b.nextReminderAt) " +
+           "FROM RecurringBill b WHERE b.nextReminderAt >= :from AND b.nextReminderAt < :to")
+    List<BillReminderTime> findDueForReminder(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Find bills with a due date whose reminder time has not been computed yet
+     */
+    List<RecurringBill> findByNextReminderAtIsNullAndNextDueDateIsNotNull();
 }
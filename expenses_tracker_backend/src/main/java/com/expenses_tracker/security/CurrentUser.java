@@ -0,0 +1,21 @@
+package com.expenses_tracker.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+/**
+ * Injects the signed-in user's {@link CustomUserDetails} into a controller parameter.
+ * Resolved from the security context by Spring Security's @AuthenticationPrincipal
+ * argument resolver, so it costs no query; null when the request is anonymous.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AuthenticationPrincipal
+public @interface CurrentUser {
+}
@@ -1,39 +1,68 @@
 package com.expenses_tracker.security;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
 
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.expenses_tracker.entity.User;
 
-public class CustomUserDetails implements UserDetails {
+/**
+ * The signed-in user as kept in the session. Carries the id and roles copied at login,
+ * so controllers can identify the user and check access without loading the User row.
+ */
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-    private final User user;
+    private final Long id;
+    private final String username;
+    private String password;
+    private final List<GrantedAuthority> authorities;
 
-    // This is the constructor you were missing!
+    /**
+     * Copy the fields needed from a user loaded with its roles
+     */
     public CustomUserDetails(User user) {
-        this.user = user;
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        // Map your User's roles to Spring Security's GrantedAuthority
+        this.authorities = user.getRoles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.getName().name()))
+                .toList();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isAdmin() {
+        return authorities.stream().anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // Map your User's roles to Spring Security's GrantedAuthority
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName().name()))
-                .collect(Collectors.toList());
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
+    }
+
+    /**
+     * Drop the password hash once authentication is done; it would otherwise live in the session
+     */
+    @Override
+    public void eraseCredentials() {
+        password = null;
     }
 
     // You can implement these methods based on your User entity fields if you have them
@@ -0,0 +1,233 @@
+package com.expenses_tracker.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expenses_tracker.dto.BillReminderTime;
+import com.expenses_tracker.entity.RecurringBill;
+import com.expenses_tracker.repository.RecurringBillRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Fires bill reminders from an in-memory timing wheel instead of polling the database.
+ * The wheel is loaded at startup, kept current by RecurringBillController on every
+ * create/update/pay/delete, and periodically reconciled against the database.
+ */
+@Service
+public class BillReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BillReminderScheduler.class);
+
+    @Autowired
+    private RecurringBillRepository recurringBillRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${logging.sampling.max-per-minute:20}")
+    private int logSamplesPerMinute;
+
+    private final ReminderTimingWheel wheel = new ReminderTimingWheel(toEpochMinute(LocalDateTime.now()));
+
+    private Timer firingDelay;
+    private Counter remindersFired;
+    private Counter reconcileCorrections;
+    private Counter billsScannedByTick;
+    private Counter billsScannedByReconcile;
+
+    // A tick can fire thousands of reminders; their per-bill lines are sampled, failures separately
+    private LogSampler sentLog;
+    private LogSampler failedLog;
+
+    @PostConstruct
+    public void registerMetrics() {
+        sentLog = new LogSampler(logSamplesPerMinute, Duration.ofMinutes(1));
+        failedLog = new LogSampler(logSamplesPerMinute, Duration.ofMinutes(1));
+        firingDelay = Timer.builder("reminders.wheel.firing.delay")
+            .description("How long after its scheduled minute a reminder actually fired")
+            .register(meterRegistry);
+        remindersFired = meterRegistry.counter("reminders.wheel.fired");
+        reconcileCorrections = meterRegistry.counter("reminders.wheel.reconcile.corrections");
+        billsScannedByTick = meterRegistry.counter("reminders.bills.scanned", "source", "tick");
+        billsScannedByReconcile = meterRegistry.counter("reminders.bills.scanned", "source", "reconcile");
+
+        Gauge.builder("reminders.wheel.occupancy", this, s -> s.occupancy(-1))
+            .tag("level", "all")
+            .register(meterRegistry);
+        Gauge.builder("reminders.wheel.occupancy", this, s -> s.occupancy(ReminderTimingWheel.MINUTE_LEVEL))
+            .tag("level", "minute")
+            .register(meterRegistry);
+        Gauge.builder("reminders.wheel.occupancy", this, s -> s.occupancy(ReminderTimingWheel.HOUR_LEVEL))
+            .tag("level", "hour")
+            .register(meterRegistry);
+        Gauge.builder("reminders.wheel.occupancy", this, s -> s.occupancy(ReminderTimingWheel.DAY_LEVEL))
+            .tag("level", "day")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Backfill reminder times for older bills, then load every upcoming reminder
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadOnStartup() {
+        List<RecurringBill> missing = recurringBillRepository.findByNextReminderAtIsNullAndNextDueDateIsNotNull();
+        for (RecurringBill bill : missing) {
+            bill.refreshNextReminderAt();
+        }
+        recurringBillRepository.saveAll(missing);
+
+        int corrections = reconcileWithDatabase();
+        log.info("Loaded {} bill reminder(s) into the timing wheel", corrections);
+    }
+
+    /**
+     * Advance the wheel to the current minute and send whatever became due
+     */
+    @Scheduled(cron = "0 * * * * *") // Runs every minute at the start of the minute
+    public void tick() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Map<Long, Long> due;
+            synchronized (wheel) {
+                due = wheel.advanceTo(toEpochMinute(LocalDateTime.now()));
+            }
+            billsScannedByTick.increment(due.size());
+            if (!due.isEmpty()) {
+                log.debug("{} bill reminder(s) due", due.size());
+            }
+            due.forEach(this::fire);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("reminders.tick")
+                .description("Duration of one reminder scheduler tick")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Periodically make the wheel match the database, covering any writes that bypassed the hooks
+     */
+    @Scheduled(fixedDelayString = "${reminders.reconcile-interval-ms:3600000}",
+               initialDelayString = "${reminders.reconcile-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        int corrections = reconcileWithDatabase();
+        if (corrections > 0) {
+            reconcileCorrections.increment(corrections);
+            log.info("Reminder wheel reconciliation corrected {} entr(ies)", corrections);
+        }
+    }
+
+    /**
+     * Put a saved bill's reminder on the wheel, or take it off if it no longer has one
+     */
+    public void schedule(RecurringBill bill) {
+        if (bill.getId() == null) {
+            return;
+        }
+        synchronized (wheel) {
+            if (bill.getNextReminderAt() == null) {
+                wheel.cancel(bill.getId());
+            } else {
+                wheel.schedule(bill.getId(), toEpochMinute(bill.getNextReminderAt()));
+            }
+        }
+    }
+
+    /**
+     * Take a deleted bill's reminder off the wheel
+     */
+    public void cancel(Long billId) {
+        synchronized (wheel) {
+            wheel.cancel(billId);
+        }
+    }
+
+    private void fire(Long billId, Long dueMinute) {
+        firingDelay.record(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(dueMinute), TimeUnit.MILLISECONDS);
+        try {
+            recurringBillRepository.findById(billId).ifPresent(bill -> {
+                // Ignore entries that went stale because the bill was rescheduled elsewhere
+                if (bill.getNextReminderAt() != null && toEpochMinute(bill.getNextReminderAt()) == dueMinute) {
+                    notificationService.sendBillReminder(bill);
+                    remindersFired.increment();
+                    if (log.isDebugEnabled()) {
+                        long skipped = sentLog.sample();
+                        if (skipped >= 0) {
+                            log.debug("Sent reminder for bill {} ({} similar line(s) skipped)", billId, skipped);
+                        }
+                    }
+                }
+            });
+        } catch (Exception e) {
+            long skipped = failedLog.sample();
+            if (skipped >= 0) {
+                log.error("Error sending reminder for bill {} ({} similar line(s) skipped)", billId, skipped, e);
+            }
+        }
+    }
+
+    private int reconcileWithDatabase() {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime to = from.plusMinutes(ReminderTimingWheel.HORIZON_MINUTES - 1);
+        Map<Long, Long> expected = new HashMap<>();
+        for (BillReminderTime reminder : recurringBillRepository.findDueForReminder(from, to)) {
+            expected.put(reminder.getBillId(), toEpochMinute(reminder.getNextReminderAt()));
+        }
+        billsScannedByReconcile.increment(expected.size());
+
+        int corrections = 0;
+        synchronized (wheel) {
+            Map<Long, Long> actual = wheel.snapshot();
+            for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+                if (!entry.getValue().equals(actual.get(entry.getKey()))
+                        && wheel.schedule(entry.getKey(), entry.getValue())) {
+                    corrections++;
+                }
+            }
+            for (Long id : actual.keySet()) {
+                if (!expected.containsKey(id) && wheel.cancel(id)) {
+                    corrections++;
+                }
+            }
+        }
+        return corrections;
+    }
+
+    private double occupancy(int level) {
+        synchronized (wheel) {
+            return level < 0 ? wheel.size() : wheel.levelSize(level);
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return TimeUnit.SECONDS.toMinutes(time.atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+}
@@ -0,0 +1,251 @@
+package com.expenses_tracker.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.event.ExpenseChangedEvent;
+import com.expenses_tracker.repository.BudgetRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Evaluates budget alerts in the background. Expense-changed events are queued after
+ * the expense commits; a single worker drains the queue in short windows, coalesces
+ * events per (user, category) and evaluates each affected budget once per batch.
+ * When the queue is full the (user, category, date) is marked dirty instead, and the
+ * worker evaluates the dirty groups along with its next batch, so no alert is lost.
+ */
+@Component
+public class BudgetAlertPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetAlertPipeline.class);
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertService budgetAlertService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${budgets.alerts.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${budgets.alerts.coalesce-window-ms:500}")
+    private long coalesceWindowMs;
+
+    @Value("${budgets.alerts.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${logging.sampling.max-per-minute:20}")
+    private int logSamplesPerMinute;
+
+    private BlockingQueue<QueuedEvent> queue;
+
+    // Groups whose events didn't fit in the queue: user id -> category -> expense dates.
+    // Only changed inside compute()/remove(), so a group is either marked or taken, never half of each.
+    private final Map<Long, Map<String, Set<LocalDate>>> dirty = new ConcurrentHashMap<>();
+    private Thread worker;
+    private volatile boolean running;
+
+    private final AtomicLong eventsProcessed = new AtomicLong();
+    private final AtomicLong groupsEvaluated = new AtomicLong();
+
+    private Counter eventsReceived;
+    private Counter eventsOverflowed;
+    private Counter budgetsEvaluated;
+    private Timer lag;
+
+    // A full queue overflows every event of a burst; log a sample and count the rest
+    private LogSampler overflowLog;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        overflowLog = new LogSampler(logSamplesPerMinute, Duration.ofMinutes(1));
+
+        eventsReceived = meterRegistry.counter("budget.alerts.events.received");
+        eventsOverflowed = Counter.builder("budget.alerts.events.overflowed")
+            .description("Events that found the queue full and were marked for re-evaluation instead")
+            .register(meterRegistry);
+        budgetsEvaluated = meterRegistry.counter("budget.alerts.budgets.evaluated");
+        lag = Timer.builder("budget.alerts.lag")
+            .description("Time from expense commit to budget evaluation (queued events only)")
+            .register(meterRegistry);
+        Gauge.builder("budget.alerts.queue.depth", queue, BlockingQueue::size)
+            .register(meterRegistry);
+        Gauge.builder("budget.alerts.dirty.users", dirty, Map::size)
+            .description("Users with budget groups waiting for re-evaluation after a queue overflow")
+            .register(meterRegistry);
+        Gauge.builder("budget.alerts.coalescing.ratio", this, BudgetAlertPipeline::getCoalescingRatio)
+            .description("Expense events per (user, category) evaluation")
+            .register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::drainLoop, "budget-alert-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Queue an expense change once its transaction has committed. Never blocks the caller;
+     * if the queue is full its (user, category, date) is marked dirty and evaluated with the next batch.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        eventsReceived.increment();
+        if (event.getUserId() == null || event.getCategory() == null || event.getDate() == null) {
+            return;
+        }
+        // Runs after the commit, so the lag is measured from here
+        if (!queue.offer(new QueuedEvent(event, System.nanoTime()))) {
+            eventsOverflowed.increment();
+            markDirty(event);
+            long skipped = overflowLog.sample();
+            if (skipped >= 0) {
+                log.warn("Budget alert queue full, deferring category {} for user {} ({} similar line(s) skipped)",
+                    event.getCategory(), event.getUserId(), skipped);
+            }
+        }
+    }
+
+    private void markDirty(ExpenseChangedEvent event) {
+        dirty.compute(event.getUserId(), (userId, categories) -> {
+            Map<String, Set<LocalDate>> marked = categories != null ? categories : new HashMap<>();
+            marked.computeIfAbsent(event.getCategory(), k -> new HashSet<>()).add(event.getDate());
+            return marked;
+        });
+    }
+
+    private double getCoalescingRatio() {
+        long groups = groupsEvaluated.get();
+        return groups == 0 ? 0.0 : (double) eventsProcessed.get() / groups;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                QueuedEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    if (!dirty.isEmpty()) {
+                        processBatch(List.of());
+                    }
+                    continue;
+                }
+
+                // Collect whatever else arrives within the coalescing window
+                List<QueuedEvent> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceWindowMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    QueuedEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Log the error but keep the worker alive
+                log.error("Error evaluating budget alerts", e);
+            }
+        }
+    }
+
+    private void processBatch(List<QueuedEvent> batch) {
+        // Group by user, then category, keeping the distinct expense dates
+        Map<Long, Map<String, Set<LocalDate>>> grouped = new HashMap<>();
+        long now = System.nanoTime();
+        for (QueuedEvent queued : batch) {
+            lag.record(now - queued.committedAtNanos(), TimeUnit.NANOSECONDS);
+            ExpenseChangedEvent event = queued.event();
+            grouped.computeIfAbsent(event.getUserId(), k -> new HashMap<>())
+                   .computeIfAbsent(event.getCategory(), k -> new HashSet<>())
+                   .add(event.getDate());
+        }
+        // Take the groups that overflowed the queue; anything marked from now on waits for the next batch
+        for (Long userId : dirty.keySet()) {
+            Map<String, Set<LocalDate>> categories = dirty.remove(userId);
+            if (categories == null) {
+                continue;
+            }
+            Map<String, Set<LocalDate>> byCategory = grouped.computeIfAbsent(userId, k -> new HashMap<>());
+            categories.forEach((category, dates) ->
+                byCategory.computeIfAbsent(category, k -> new HashSet<>()).addAll(dates));
+        }
+
+        int groups = 0;
+        for (Map.Entry<Long, Map<String, Set<LocalDate>>> byUser : grouped.entrySet()) {
+            for (Map.Entry<String, Set<LocalDate>> byCategory : byUser.getValue().entrySet()) {
+                groups++;
+                evaluateGroup(byUser.getKey(), byCategory.getKey(), byCategory.getValue());
+            }
+        }
+        eventsProcessed.addAndGet(batch.size());
+        groupsEvaluated.addAndGet(groups);
+    }
+
+    private void evaluateGroup(Long userId, String category, Set<LocalDate> dates) {
+        try {
+            // Several dates usually fall in the same budget; evaluate each budget once
+            Map<Long, Budget> budgets = new LinkedHashMap<>();
+            for (LocalDate date : dates) {
+                Optional<Budget> budget = budgetRepository.findActiveBudgetByUserAndCategory(userId, category, date);
+                budget.ifPresent(b -> budgets.putIfAbsent(b.getId(), b));
+            }
+            for (Budget budget : budgets.values()) {
+                budgetAlertService.evaluate(budget);
+                budgetsEvaluated.increment();
+            }
+        } catch (Exception e) {
+            log.error("Error checking budget alerts for user {} and category {}", userId, category, e);
+        }
+    }
+
+    /**
+     * An event and when it was queued, i.e. just after its transaction committed
+     */
+    private record QueuedEvent(ExpenseChangedEvent event, long committedAtNanos) {
+    }
+}
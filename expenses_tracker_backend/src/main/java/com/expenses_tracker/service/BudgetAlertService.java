@@ -0,0 +1,77 @@
+package com.expenses_tracker.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.entity.Money;
+import com.expenses_tracker.entity.Notification;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Service
+public class BudgetAlertService {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Notify the budget's owner if spending is over, or within 10% of, the limit.
+     * Returns true when an alert condition was met.
+     */
+    public boolean evaluate(Budget budget) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            boolean alerted = check(budget);
+            outcome = alerted ? "alert" : "ok";
+            return alerted;
+        } finally {
+            sample.stop(Timer.builder("budget.alerts.evaluation")
+                .description("Time to evaluate one budget against its limit")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
+
+    private boolean check(Budget budget) {
+        Long userId = budget.getUser().getId();
+        String category = budget.getCategory();
+        Money limit = budget.getLimitAmount();
+        Money totalSpending = Money.of(budget.getSpentAmount());
+
+        // Calculate remaining budget
+        Money remainingBudget = limit.minus(totalSpending);
+
+        // Check if budget exceeded (Over Limit - 100%+)
+        if (remainingBudget.signum() <= 0) {
+            String message = String.format("🚨 Budget Alert: You have exceeded your %s budget of ₹%.2f! Current spending: ₹%.2f", 
+                category, limit.toBigDecimal(), totalSpending.toBigDecimal());
+            alertFired("exceeded", notificationService.createNotification(userId,
+                NotificationService.KIND_BUDGET_EXCEEDED, String.valueOf(budget.getId()), message));
+            return true;
+        }
+
+        // Check if spending exceeds 90% of budget limit (Approaching limit): spent * 10 > limit * 9
+        if (totalSpending.times(10).compareTo(limit.times(9)) > 0) {
+            String message = String.format("⚠️ Budget Alert: You have only ₹%.2f left in your %s budget!", 
+                remainingBudget.toBigDecimal(), category);
+            alertFired("approaching", notificationService.createNotification(userId,
+                NotificationService.KIND_BUDGET_APPROACHING, String.valueOf(budget.getId()), message));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Count an alert; notification is null when the same alert was already sent today
+     */
+    private void alertFired(String level, Notification notification) {
+        meterRegistry.counter("budget.alerts.fired",
+            "level", level, "outcome", notification != null ? "sent" : "duplicate").increment();
+    }
+}
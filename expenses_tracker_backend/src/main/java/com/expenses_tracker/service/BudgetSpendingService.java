@@ -0,0 +1,103 @@
+package com.expenses_tracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.repository.BudgetRepository;
+
+/**
+ * Keeps each Budget's persisted spentAmount in step with the expenses it covers,
+ * so budget checks read a single column instead of summing the expense table.
+ */
+@Service
+public class BudgetSpendingService {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetSpendingService.class);
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    /**
+     * Count a newly saved expense against the budgets that cover it
+     */
+    @Transactional
+    public void onExpenseAdded(Expense expense) {
+        applyDelta(expense.getUser().getId(), expense.getCategory(), expense.getDate(), expense.getAmount());
+    }
+
+    /**
+     * Remove a deleted expense from the budgets that covered it
+     */
+    @Transactional
+    public void onExpenseRemoved(Long userId, String category, LocalDate date, BigDecimal amount) {
+        applyDelta(userId, category, date, amount == null ? null : amount.negate());
+    }
+
+    /**
+     * Move an edited expense from the budgets that covered its old values to those covering its new ones
+     */
+    @Transactional
+    public void onExpenseUpdated(Long userId, String oldCategory, LocalDate oldDate, BigDecimal oldAmount,
+                                 Expense updated) {
+        onExpenseRemoved(userId, oldCategory, oldDate, oldAmount);
+        applyDelta(userId, updated.getCategory(), updated.getDate(), updated.getAmount());
+    }
+
+    /**
+     * Initialise the spent amount of a new or edited budget from existing expenses
+     */
+    public void recalculate(Budget budget) {
+        if (budget.getUser() == null || budget.getStartDate() == null || budget.getEndDate() == null) {
+            budget.setSpentAmount(BigDecimal.ZERO);
+            return;
+        }
+        budget.setSpentAmount(budgetRepository.calculateTotalSpendingByUserAndCategory(
+            budget.getUser().getId(), budget.getCategory(), budget.getStartDate(), budget.getEndDate()));
+    }
+
+    /**
+     * Rebuild the spent amounts of one user's budgets from the expense table
+     */
+    @Transactional
+    public int reconcileUser(Long userId) {
+        return budgetRepository.recalculateSpentAmountsByUserId(userId);
+    }
+
+    /**
+     * Backfill spent amounts once at startup, e.g. for budgets created before the column existed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcileAll();
+    }
+
+    /**
+     * Nightly job that rebuilds every budget's spent amount, repairing any drift
+     * from writes that bypassed the service layer
+     */
+    @Scheduled(cron = "${budgets.reconcile.cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcileAll() {
+        int updated = budgetRepository.recalculateAllSpentAmounts();
+        log.info("Reconciled spent amount of {} budget(s)", updated);
+    }
+
+    private void applyDelta(Long userId, String category, LocalDate date, BigDecimal delta) {
+        if (userId == null || category == null || date == null || delta == null || delta.signum() == 0) {
+            return;
+        }
+        budgetRepository.addToSpentAmount(userId, category, date, delta);
+    }
+}
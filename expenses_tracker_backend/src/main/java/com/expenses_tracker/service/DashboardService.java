@@ -0,0 +1,115 @@
+package com.expenses_tracker.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.expenses_tracker.dto.BudgetUtilization;
+import com.expenses_tracker.dto.CategoryTotal;
+import com.expenses_tracker.dto.DashboardSummary;
+import com.expenses_tracker.dto.PeriodTotal;
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.entity.Money;
+import com.expenses_tracker.repository.BudgetRepository;
+import com.expenses_tracker.repository.ExpenseRepository;
+
+@Service
+public class DashboardService {
+
+    private static final int WEEKS_SHOWN = 4;
+    private static final int MONTHS_SHOWN = 12;
+    private static final int RECENT_EXPENSES_SHOWN = 5;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UnreadNotificationCounts unreadNotificationCounts;
+
+    /**
+     * Build the dashboard summary for a user using SQL aggregates only
+     */
+    public DashboardSummary getSummary(Long userId) {
+        LocalDate today = LocalDate.now();
+        DashboardSummary summary = new DashboardSummary();
+
+        // Per-category totals also give us the overall total and count
+        List<CategoryTotal> categoryTotals = expenseRepository.sumAmountByCategory(userId);
+        long total = 0;
+        long count = 0;
+        for (CategoryTotal categoryTotal : categoryTotals) {
+            total = Math.addExact(total, categoryTotal.getAmount().getMinorUnits());
+            count += categoryTotal.getCount();
+        }
+        summary.setCategoryTotals(categoryTotals);
+        summary.setTotalSpent(Money.ofMinor(total));
+        summary.setExpenseCount(count);
+
+        // Monthly totals for the trailing year; the last bucket is the current month
+        LocalDate monthsSince = YearMonth.from(today).minusMonths(MONTHS_SHOWN - 1L).atDay(1);
+        List<PeriodTotal> monthlyTotals = expenseRepository.sumAmountByMonthSince(userId, monthsSince);
+        String currentMonth = YearMonth.from(today).toString();
+        summary.setMonthlyTotals(monthlyTotals);
+        summary.setCurrentMonthSpent(monthlyTotals.stream()
+            .filter(t -> t.getPeriod().equals(currentMonth))
+            .map(PeriodTotal::getAmount)
+            .findFirst()
+            .orElse(Money.ZERO));
+
+        summary.setWeeklyTotals(getWeeklyTotals(userId, today));
+        summary.setYearlyTotals(expenseRepository.sumAmountByYear(userId));
+        summary.setBudgets(getBudgetUtilization(userId, today));
+        summary.setUnreadNotifications(unreadNotificationCounts.get(userId));
+        summary.setRecentExpenses(expenseRepository.findFirstPageByUserId(userId, Limit.of(RECENT_EXPENSES_SHOWN)));
+
+        return summary;
+    }
+
+    /**
+     * Bucket the last four weeks of daily totals by how many weeks ago they fall
+     */
+    private List<PeriodTotal> getWeeklyTotals(Long userId, LocalDate today) {
+        LocalDate since = today.minusDays(WEEKS_SHOWN * 7L - 1);
+        // Minor units per week; weeks without expenses are left out
+        long[] buckets = new long[WEEKS_SHOWN];
+        boolean[] hasExpenses = new boolean[WEEKS_SHOWN];
+        for (PeriodTotal daily : expenseRepository.sumAmountByDaySince(userId, since)) {
+            long daysAgo = ChronoUnit.DAYS.between(LocalDate.parse(daily.getPeriod()), today);
+            if (daysAgo < 0) {
+                continue; // future-dated expenses are not part of the trend
+            }
+            int week = (int) (daysAgo / 7);
+            buckets[week] = Math.addExact(buckets[week], daily.getAmount().getMinorUnits());
+            hasExpenses[week] = true;
+        }
+
+        List<PeriodTotal> weeklyTotals = new ArrayList<>();
+        for (int week = WEEKS_SHOWN - 1; week >= 0; week--) {
+            if (hasExpenses[week]) {
+                weeklyTotals.add(new PeriodTotal(String.valueOf(week), Money.ofMinor(buckets[week])));
+            }
+        }
+        return weeklyTotals;
+    }
+
+    /**
+     * Spending against each budget that is active today
+     */
+    private List<BudgetUtilization> getBudgetUtilization(Long userId, LocalDate today) {
+        List<BudgetUtilization> utilization = new ArrayList<>();
+        for (Budget budget : budgetRepository.findActiveBudgetsByUserId(userId, today)) {
+            utilization.add(new BudgetUtilization(budget.getId(), budget.getCategory(),
+                budget.getLimitAmount(), Money.of(budget.getSpentAmount()), budget.getStartDate(), budget.getEndDate()));
+        }
+        return utilization;
+    }
+}
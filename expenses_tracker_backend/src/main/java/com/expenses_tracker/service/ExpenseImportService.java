@@ -0,0 +1,376 @@
+package com.expenses_tracker.service;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.expenses_tracker.dto.ExpenseImportResult;
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.User;
+import com.expenses_tracker.repository.BudgetRepository;
+import com.expenses_tracker.repository.ExpenseRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Imports expenses in bulk from CSV or XLSX bank statements. Rows are parsed as they are
+ * read, validated, and saved in chunks of one transaction each, sent to the database in
+ * JDBC batches. Budget spending and alerts are brought up to date once at the end of the
+ * import instead of once per row.
+ */
+@Service
+public class ExpenseImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpenseImportService.class);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetSpendingService budgetSpendingService;
+
+    @Autowired
+    private BudgetAlertService budgetAlertService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${expenses.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${expenses.import.batch-size:100}")
+    private int batchSize;
+
+    @Value("${expenses.import.max-errors:100}")
+    private int maxErrors;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import every valid row of the file for the user. Invalid rows are skipped and reported;
+     * a file that can't be read at all (unknown type, missing columns) throws. If reading fails
+     * after some chunks were saved, those rows stay imported and the result carries the error.
+     */
+    public ExpenseImportResult importExpenses(Long userId, MultipartFile file) {
+        String format = formatOf(file);
+        ExpenseImportResult result = new ExpenseImportResult(file.getOriginalFilename(), format, maxErrors);
+        ImportRun run = new ImportRun(userId, result);
+        long started = System.nanoTime();
+
+        Path tempFile = null;
+        try {
+            if ("csv".equals(format)) {
+                try (InputStream in = file.getInputStream()) {
+                    ExpenseImportReader.readCsv(in, run::row);
+                }
+            } else {
+                // The XLSX event reader needs random access to the zip entries
+                tempFile = Files.createTempFile("expense-import-", ".xlsx");
+                file.transferTo(tempFile);
+                ExpenseImportReader.readXlsx(tempFile.toFile(), run::row);
+            }
+            run.saveChunk();
+        } catch (Exception e) {
+            RuntimeException failure = e instanceof RuntimeException runtime ? runtime
+                : new RuntimeException("Could not read import file: " + e.getMessage(), e);
+            if (result.getImported() == 0) {
+                throw failure;
+            }
+            // Earlier chunks are committed; report them together with the error
+            result.recordFailure(failure.getMessage());
+            log.warn("Expense import for user {} stopped after {} rows: {}", userId, result.getImported(),
+                failure.getMessage());
+        } finally {
+            deleteQuietly(tempFile);
+            // Committed chunks count against budgets whether or not the rest of the file was read
+            if (result.getImported() > 0) {
+                reevaluateBudgets(userId, run.datesByCategory);
+            }
+        }
+
+        result.finish((System.nanoTime() - started) / 1_000_000);
+        log.info("Imported {} of {} expense rows for user {} in {} ms", result.getImported(), result.getRowsRead(),
+            userId, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Rebuild the user's budget spending with one statement, then check alerts for the budgets
+     * that cover an imported category and date range
+     */
+    private void reevaluateBudgets(Long userId, Map<String, LocalDate[]> datesByCategory) {
+        budgetSpendingService.reconcileUser(userId);
+        for (Budget budget : budgetRepository.findByUserId(userId)) {
+            if (budget.getCategory() == null || budget.getStartDate() == null || budget.getEndDate() == null) {
+                continue;
+            }
+            LocalDate[] span = datesByCategory.get(budget.getCategory().toLowerCase(Locale.ROOT));
+            if (span != null && !span[0].isAfter(budget.getEndDate()) && !span[1].isBefore(budget.getStartDate())) {
+                budgetAlertService.evaluate(budget);
+            }
+        }
+    }
+
+    private static String formatOf(MultipartFile file) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        String contentType = file.getContentType() != null ? file.getContentType() : "";
+        if (name.endsWith(".csv") || contentType.equals("text/csv")) {
+            return "csv";
+        }
+        if (name.endsWith(".xlsx") || contentType.equals("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")) {
+            return "xlsx";
+        }
+        throw new RuntimeException("Unsupported file type. Supported: csv, xlsx");
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (Exception e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * State of one import: the column layout from the header row, the chunk waiting to be
+     * saved and the date range imported per category
+     */
+    private class ImportRun {
+
+        private final Long userId;
+        private final ExpenseImportResult result;
+        private Columns columns;
+        private final List<Expense> chunk = new ArrayList<>();
+        private final List<Integer> chunkRows = new ArrayList<>();
+        private final Map<String, LocalDate[]> datesByCategory = new HashMap<>();
+
+        ImportRun(Long userId, ExpenseImportResult result) {
+            this.userId = userId;
+            this.result = result;
+        }
+
+        void row(int rowNumber, List<String> cells) {
+            if (columns == null) {
+                columns = Columns.fromHeader(cells);
+                return;
+            }
+            result.recordRead();
+            Expense expense;
+            try {
+                expense = columns.toExpense(cells);
+            } catch (IllegalArgumentException e) {
+                result.recordError(rowNumber, e.getMessage());
+                return;
+            }
+            chunk.add(expense);
+            chunkRows.add(rowNumber);
+            if (chunk.size() >= chunkSize) {
+                saveChunk();
+            }
+        }
+
+        void saveChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                    User user = entityManager.getReference(User.class, userId);
+                    for (Expense expense : chunk) {
+                        expense.setUser(user);
+                    }
+                    expenseRepository.saveAll(chunk);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                result.recordImported(chunk.size());
+                for (Expense expense : chunk) {
+                    datesByCategory.merge(expense.getCategory().toLowerCase(Locale.ROOT),
+                        new LocalDate[]{expense.getDate(), expense.getDate()},
+                        (span, date) -> new LocalDate[]{
+                            date[0].isBefore(span[0]) ? date[0] : span[0],
+                            date[1].isAfter(span[1]) ? date[1] : span[1]});
+                }
+            } catch (RuntimeException e) {
+                // The whole chunk was rolled back
+                for (Integer rowNumber : chunkRows) {
+                    result.recordError(rowNumber, "Could not be saved: " + e.getMessage());
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+    }
+
+    /**
+     * Maps header names to expense fields and turns data rows into expenses. Bank statement
+     * headers such as "Transaction Date", "Narration" or "Withdrawal Amount" are recognised.
+     */
+    static final class Columns {
+
+        private static final int MAX_TEXT_LENGTH = 255;
+        private static final String DEFAULT_CATEGORY = "Other";
+        private static final String DEFAULT_EXPENSE_TYPE = "PERSONAL";
+
+        // Normalised header (lower case letters and digits only) to field
+        private static final Map<String, String> FIELDS = Map.ofEntries(
+            Map.entry("title", "title"), Map.entry("name", "title"), Map.entry("payee", "title"),
+            Map.entry("description", "description"), Map.entry("narration", "description"),
+            Map.entry("details", "description"), Map.entry("particulars", "description"),
+            Map.entry("remarks", "description"),
+            Map.entry("amount", "amount"), Map.entry("debit", "amount"), Map.entry("debitamount", "amount"),
+            Map.entry("withdrawal", "amount"), Map.entry("withdrawalamount", "amount"),
+            Map.entry("date", "date"), Map.entry("transactiondate", "date"), Map.entry("txndate", "date"),
+            Map.entry("valuedate", "date"),
+            Map.entry("category", "category"),
+            Map.entry("paymentmethod", "paymentMethod"), Map.entry("paymentmode", "paymentMethod"),
+            Map.entry("mode", "paymentMethod"),
+            Map.entry("expensetype", "expenseType"));
+
+        // ISO first, then day-first forms as used by Indian bank statements
+        private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("d/M/uuuu"),
+            DateTimeFormatter.ofPattern("d-M-uuuu"),
+            DateTimeFormatter.ofPattern("d.M.uuuu"),
+            DateTimeFormatter.ofPattern("d MMM uuuu", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("d-MMM-uuuu", Locale.ENGLISH));
+
+        // "Rs. 1,000", "-INR 250", "₹99", "12.50 USD"
+        private static final Pattern CURRENCY = Pattern.compile(
+            "(?i)^(-?)\\s*(?:rs\\.?|inr|usd|eur|gbp|[₹$€£])\\s*|\\s*(?:rs\\.?|inr|usd|eur|gbp|[₹$€£])$");
+        private static final Pattern PLAIN_AMOUNT = Pattern.compile("-?\\d+(?:\\.\\d+)?");
+
+        private final Map<String, Integer> indexByField;
+
+        private Columns(Map<String, Integer> indexByField) {
+            this.indexByField = indexByField;
+        }
+
+        static Columns fromHeader(List<String> header) {
+            Map<String, Integer> indexByField = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i) == null ? "" : header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+                String field = FIELDS.get(name);
+                if (field != null) {
+                    indexByField.putIfAbsent(field, i);
+                }
+            }
+            if (!indexByField.containsKey("amount") || !indexByField.containsKey("date")) {
+                throw new RuntimeException("Import file needs a header row with amount and date columns");
+            }
+            return new Columns(indexByField);
+        }
+
+        /**
+         * Build an unsaved expense from a data row; throws IllegalArgumentException naming the problem
+         */
+        Expense toExpense(List<String> cells) {
+            Expense expense = new Expense();
+            expense.setAmount(parseAmount(value(cells, "amount")));
+            expense.setDate(parseDate(value(cells, "date")));
+
+            String description = text(cells, "description");
+            String title = text(cells, "title");
+            expense.setTitle(title != null ? title : description != null ? description : "Imported expense");
+            expense.setDescription(description);
+
+            String category = text(cells, "category");
+            expense.setCategory(category != null ? category : DEFAULT_CATEGORY);
+            expense.setPaymentMethod(text(cells, "paymentMethod"));
+
+            String expenseType = text(cells, "expenseType");
+            expenseType = expenseType != null ? expenseType.toUpperCase(Locale.ROOT) : DEFAULT_EXPENSE_TYPE;
+            if (!expenseType.equals("PERSONAL") && !expenseType.equals("PROFESSIONAL")) {
+                throw new IllegalArgumentException("Expense type must be PERSONAL or PROFESSIONAL");
+            }
+            expense.setExpenseType(expenseType);
+            return expense;
+        }
+
+        private String value(List<String> cells, String field) {
+            Integer index = indexByField.get(field);
+            if (index == null || index >= cells.size() || cells.get(index) == null) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private String text(List<String> cells, String field) {
+            String value = value(cells, field);
+            if (value != null && value.length() > MAX_TEXT_LENGTH) {
+                throw new IllegalArgumentException(field + " is longer than " + MAX_TEXT_LENGTH + " characters");
+            }
+            return value;
+        }
+
+        private static BigDecimal parseAmount(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Amount is missing");
+            }
+            // Drop a leading or trailing currency marker and thousands separators; anything else left over is rejected
+            String number = CURRENCY.matcher(value).replaceAll("$1").replace(",", "");
+            if (!PLAIN_AMOUNT.matcher(number).matches()) {
+                throw new IllegalArgumentException("Amount is not a number: " + value);
+            }
+            BigDecimal amount = new BigDecimal(number);
+            if (amount.signum() <= 0) {
+                throw new IllegalArgumentException("Amount must be greater than zero");
+            }
+            return amount;
+        }
+
+        private static LocalDate parseDate(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Date is missing");
+            }
+            for (DateTimeFormatter format : DATE_FORMATS) {
+                try {
+                    return LocalDate.parse(value, format);
+                } catch (DateTimeParseException e) {
+                    // Try the next format
+                }
+            }
+            throw new IllegalArgumentException("Date is not in a recognised format: " + value);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.expenses_tracker.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.expenses_tracker.dto.ExpensePage;
+import com.expenses_tracker.dto.ExpenseSearchPage;
+import com.expenses_tracker.dto.ExpenseSummary;
 import com.expenses_tracker.entity.Expense;
 
 public interface ExpenseService {
@@ -13,7 +16,9 @@ public interface ExpenseService {
     // READ
     List<Expense> getAllExpenses();
 
-    List<Expense> getExpensesByUserId(Long userId);
+    List<ExpenseSummary> getExpensesByUserId(Long userId);
+
+    ExpensePage getExpensePageByUserId(Long userId, String cursor, Integer size);
 
     List<Expense> getExpensesByType(String expenseType);
 
@@ -29,7 +34,7 @@ public interface ExpenseService {
     void togglePin(Long id);
 
     // SEARCH
-    List<Expense> searchByKeyword(String keyword);
+    ExpenseSearchPage searchByKeyword(Long userId, String keyword, Integer page, Integer size);
 
     // FILTERS
     List<Expense> filterByCategory(String category);
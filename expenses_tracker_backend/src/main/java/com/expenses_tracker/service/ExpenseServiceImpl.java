@@ -2,16 +2,24 @@ package com.expenses_tracker.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.dto.ExpenseCursor;
+import com.expenses_tracker.dto.ExpensePage;
+import com.expenses_tracker.dto.ExpenseSearchPage;
+import com.expenses_tracker.dto.ExpenseSummary;
 import com.expenses_tracker.entity.Expense;
-import com.expenses_tracker.entity.User; // <-- 1. NEW IMPORT
-import com.expenses_tracker.repository.BudgetRepository;
+import com.expenses_tracker.event.ExpenseChangedEvent;
 import com.expenses_tracker.repository.ExpenseRepository;
 import com.expenses_tracker.repository.UserRepository; // <-- 2. NEW IMPORT
 
@@ -25,24 +33,33 @@ public class ExpenseServiceImpl implements ExpenseService {
     private UserRepository userRepository; // <-- 3. INJECT USER REPOSITORY
 
     @Autowired
-    private BudgetRepository budgetRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    private NotificationService notificationService;
+    private BudgetSpendingService budgetSpendingService;
+
+    private static final int MAX_SEARCH_TERMS = 10;
+
+    @Value("${expenses.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${expenses.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${expenses.search.full-text:true}")
+    private boolean fullTextSearch;
 
     @Override
+    @Transactional
     public Expense addExpense(Expense expense) {
         // Validate that user was set (should be set by controller from authentication)
         if (expense.getUser() == null) {
             throw new RuntimeException("User must be set to add an expense.");
         }
 
-        // If user has only ID, fetch the managed entity
+        // If user has only ID, attach a reference; only the foreign key is written, so no select is needed
         if (expense.getUser().getId() != null && expense.getUser().getUsername() == null) {
-            Long userId = expense.getUser().getId();
-            User managedUser = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-            expense.setUser(managedUser);
+            expense.setUser(userRepository.getReferenceById(expense.getUser().getId()));
         }
 
         // Set default date if null
@@ -50,11 +67,12 @@ public class ExpenseServiceImpl implements ExpenseService {
             expense.setDate(LocalDate.now());
         }
         
-        // Save the expense
+        // Save the expense and count it against the budgets that cover it
         Expense savedExpense = expenseRepository.save(expense);
+        budgetSpendingService.onExpenseAdded(savedExpense);
         
-        // Check for budget alerts after saving the expense
-        checkBudgetAlerts(savedExpense);
+        // Budget alerts are evaluated asynchronously once this transaction commits
+        publishExpenseChanged(savedExpense);
         
         return savedExpense;
     }
@@ -65,8 +83,28 @@ public class ExpenseServiceImpl implements ExpenseService {
     }
 
     @Override
-    public List<Expense> getExpensesByUserId(Long userId) {
-        return expenseRepository.findByUserIdOrderByDateDesc(userId);
+    public List<ExpenseSummary> getExpensesByUserId(Long userId) {
+        return expenseRepository.findSummariesByUserId(userId);
+    }
+
+    @Override
+    public ExpensePage getExpensePageByUserId(Long userId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+
+        // Fetch one extra row so we know whether another page exists without a COUNT query
+        Limit limit = Limit.of(pageSize + 1);
+        List<ExpenseSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = expenseRepository.findFirstPageByUserId(userId, limit);
+        } else {
+            ExpenseCursor after = ExpenseCursor.decode(cursor);
+            rows = expenseRepository.findPageByUserIdAfter(userId, after.getDate(), after.getId(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ExpenseSummary> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasMore ? ExpenseCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new ExpensePage(items, nextCursor, hasMore);
     }
 
     @Override
@@ -81,9 +119,15 @@ public class ExpenseServiceImpl implements ExpenseService {
     }
 
     @Override
+    @Transactional
     public Expense updateExpense(Long id, Expense expenseDetails) {
         Expense existing = getExpenseById(id);
 
+        // Remember what the budgets were charged before the edit
+        String oldCategory = existing.getCategory();
+        LocalDate oldDate = existing.getDate();
+        BigDecimal oldAmount = existing.getAmount();
+
         // Update allowed fields (null checks optional)
         existing.setTitle(expenseDetails.getTitle());
         existing.setDescription(expenseDetails.getDescription());
@@ -97,13 +141,18 @@ public class ExpenseServiceImpl implements ExpenseService {
         // Note: You probably don't want to update the user on an existing expense
         // so we don't set user here.
 
-        return expenseRepository.save(existing);
+        Expense saved = expenseRepository.save(existing);
+        budgetSpendingService.onExpenseUpdated(saved.getUser().getId(), oldCategory, oldDate, oldAmount, saved);
+        publishExpenseChanged(saved);
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteExpense(Long id) {
         Expense e = getExpenseById(id);
         expenseRepository.delete(e);
+        budgetSpendingService.onExpenseRemoved(e.getUser().getId(), e.getCategory(), e.getDate(), e.getAmount());
     }
 
     @Override
@@ -114,10 +163,50 @@ public class ExpenseServiceImpl implements ExpenseService {
     }
 
     @Override
-    public List<Expense> searchByKeyword(String keyword) {
-        // searches title OR description OR category name (case-insensitive contains)
-        return expenseRepository.searchExpenses(keyword);
+    public ExpenseSearchPage searchByKeyword(Long userId, String keyword, Integer page, Integer size) {
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+
+        PageRequest pageable = PageRequest.of(pageNumber, pageSize);
+        Slice<Expense> results;
+        if (fullTextSearch) {
+            String query = toFullTextQuery(keyword);
+            if (query.isEmpty()) {
+                return new ExpenseSearchPage(List.of(), pageNumber, pageSize, false);
+            }
+            results = expenseRepository.searchByUserId(userId, query, pageable);
+        } else {
+            if (keyword == null || keyword.isBlank()) {
+                return new ExpenseSearchPage(List.of(), pageNumber, pageSize, false);
+            }
+            results = expenseRepository.searchByUserIdContaining(userId, keyword.trim(), pageable);
+        }
+        return new ExpenseSearchPage(results.getContent(), pageNumber, pageSize, results.hasNext());
+    }
 
+    /**
+     * Turn free text into a MySQL boolean-mode query that requires every word as a prefix,
+     * e.g. "coffee sh" becomes "+coffee* +sh*". Operator characters are dropped.
+     */
+    static String toFullTextQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        StringBuilder query = new StringBuilder();
+        int terms = 0;
+        for (String term : keyword.split("[^\\p{L}\\p{N}]+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(term.toLowerCase()).append('*');
+            if (++terms == MAX_SEARCH_TERMS) {
+                break;
+            }
+        }
+        return query.toString();
     }
 
     @Override
@@ -140,53 +229,8 @@ public class ExpenseServiceImpl implements ExpenseService {
         return expenseRepository.findByExpenseTypeIgnoreCaseAndCategoryIgnoreCase(expenseType, category);
     }
 
-    /**
-     * Check for budget alerts after adding a new expense
-     */
-    private void checkBudgetAlerts(Expense expense) {
-        try {
-            Long userId = expense.getUser().getId();
-            String category = expense.getCategory();
-            LocalDate expenseDate = expense.getDate();
-
-            // Find active budget for this user and category
-            Optional<Budget> activeBudget = budgetRepository.findActiveBudgetByUserAndCategory(
-                userId, category, expenseDate);
-
-            if (activeBudget.isPresent()) {
-                Budget budget = activeBudget.get();
-                
-                // Calculate total spending for this category in the budget's date range
-                BigDecimal totalSpending = budgetRepository.calculateTotalSpendingByUserAndCategory(
-                    userId, category, budget.getStartDate(), budget.getEndDate());
-
-                // Calculate remaining budget
-                BigDecimal remainingBudget = budget.getLimitAmount().subtract(totalSpending);
-                
-                // Check if budget exceeded (Over Limit - 100%+)
-                if (remainingBudget.compareTo(BigDecimal.ZERO) <= 0) {
-                    String message = String.format("🚨 Budget Alert: You have exceeded your %s budget of ₹%.2f! Current spending: ₹%.2f", 
-                        category, budget.getLimitAmount(), totalSpending);
-                    
-                    // Create immediate notification for over limit
-                    notificationService.createNotification(userId, message);
-                }
-                // Check if spending exceeds 90% of budget limit (Approaching limit)
-                else {
-                    BigDecimal threshold = budget.getLimitAmount().multiply(new BigDecimal("0.9"));
-                    
-                    if (totalSpending.compareTo(threshold) > 0) {
-                        String message = String.format("⚠️ Budget Alert: You have only ₹%.2f left in your %s budget!", 
-                            remainingBudget, category);
-                        
-                        // Create notification for approaching limit
-                        notificationService.createNotification(userId, message);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // Log the error but don't fail the expense creation
-            System.err.println("Error checking budget alerts: " + e.getMessage());
-        }
+    private void publishExpenseChanged(Expense expense) {
+        eventPublisher.publishEvent(
+            new ExpenseChangedEvent(expense.getUser().getId(), expense.getCategory(), expense.getDate()));
     }
-}
\ No newline at end of file
+}
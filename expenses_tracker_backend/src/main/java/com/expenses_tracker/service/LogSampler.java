@@ -0,0 +1,44 @@
+package com.expenses_tracker.service;
+
+import java.time.Duration;
+
+/**
+ * Rate limit for log lines written once per item (per bill, per queued event). Lets through
+ * at most maxPerInterval lines per interval; the next line let through reports how many
+ * were suppressed in between, so a burst costs a few lines instead of one per item.
+ */
+final class LogSampler {
+
+    private final int maxPerInterval;
+    private final long intervalNanos;
+
+    // Guarded by this
+    private long windowStart = System.nanoTime();
+    private int logged;
+    private long suppressed;
+
+    LogSampler(int maxPerInterval, Duration interval) {
+        this.maxPerInterval = maxPerInterval;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Returns -1 when this line should be skipped, otherwise the number of lines skipped
+     * since the last one logged
+     */
+    synchronized long sample() {
+        long now = System.nanoTime();
+        if (now - windowStart >= intervalNanos) {
+            windowStart = now;
+            logged = 0;
+        }
+        if (logged >= maxPerInterval) {
+            suppressed++;
+            return -1;
+        }
+        logged++;
+        long skipped = suppressed;
+        suppressed = 0;
+        return skipped;
+    }
+}
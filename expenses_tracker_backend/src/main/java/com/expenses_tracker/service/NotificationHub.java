@@ -0,0 +1,378 @@
+package com.expenses_tracker.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process fan-out of notification events to the users' open Server-Sent Events streams.
+ * Each stream has a small bounded buffer drained by a sender thread, so a slow client never
+ * blocks the publisher: pending unread counts are coalesced to the latest, and a stream whose
+ * buffer overflows is told to resync instead of growing without bound. A write that blocks on
+ * a stalled client holds only that stream's sender (the platform pool runs the other streams
+ * on its remaining threads, up to sender-threads) and is abandoned after the send timeout: the
+ * stream is dropped and its sender interrupted. Idle streams get a heartbeat comment, which
+ * also detects clients that have gone away. The stream limit stays below Tomcat's connection
+ * limit so open streams can't take the connections ordinary API requests need.
+ */
+@Service
+public class NotificationHub {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+    public static final String EVENT_RESYNC = "resync";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${notifications.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notifications.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${notifications.stream.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${notifications.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${notifications.stream.max-connections:2000}")
+    private int maxConnections;
+
+    @Value("${notifications.stream.sender-threads:32}")
+    private int senderThreads;
+
+    @Value("${notifications.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Map<Long, List<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private Executor sender;
+    private ScheduledExecutorService heartbeat;
+
+    private Counter eventsDropped;
+    private Counter rejected;
+    private Counter sendTimeouts;
+
+    @PostConstruct
+    public void start() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // A write blocked on a slow client then parks only its own virtual thread
+            SimpleAsyncTaskExecutor virtualSender = new SimpleAsyncTaskExecutor("notification-stream-");
+            virtualSender.setVirtualThreads(true);
+            sender = virtualSender;
+        } else {
+            // Up to senderThreads threads, started as streams need them, so a few stalled writes don't
+            // hold up the others; further drains queue until a thread is free or a stalled write times
+            // out. Threads stop again after a minute idle.
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "notification-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            pool.allowCoreThreadTimeOut(true);
+            sender = pool;
+        }
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        long sendCheckMs = Math.max(1, sendTimeoutMs / 2);
+        heartbeat.scheduleAtFixedRate(this::abandonStalledSends, sendCheckMs, sendCheckMs, TimeUnit.MILLISECONDS);
+
+        eventsDropped = meterRegistry.counter("notifications.stream.events.dropped");
+        rejected = meterRegistry.counter("notifications.stream.rejected");
+        sendTimeouts = meterRegistry.counter("notifications.stream.send.timeouts");
+        Gauge.builder("notifications.stream.connections", connectionCount, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        if (sender instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        } else if (sender instanceof SimpleAsyncTaskExecutor virtualSender) {
+            virtualSender.close();
+        }
+    }
+
+    /**
+     * Open a stream for this user. When the user already has the maximum number of streams
+     * open the oldest is closed; throws RejectedExecutionException when the server-wide limit
+     * is reached.
+     */
+    public SseEmitter connect(Long userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("Too many notification streams are open");
+        }
+        SseEmitter emitter = newEmitter();
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        List<Connection> evicted = new ArrayList<>();
+        connectionsByUser.compute(userId, (id, connections) -> {
+            List<Connection> list = connections != null ? connections : new CopyOnWriteArrayList<>();
+            while (list.size() >= maxConnectionsPerUser) {
+                evicted.add(list.remove(0));
+                connectionCount.decrementAndGet();
+            }
+            list.add(connection);
+            return list;
+        });
+        // Closed outside compute(), which must not modify the map again; they are already removed
+        for (Connection oldest : evicted) {
+            oldest.close();
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public boolean hasConnections(Long userId) {
+        return connectionsByUser.containsKey(userId);
+    }
+
+    /**
+     * Queue an event on each of the user's open streams; never blocks
+     */
+    public void publish(Long userId, String eventName, Object data) {
+        List<Connection> connections = connectionsByUser.get(userId);
+        if (connections == null) {
+            return;
+        }
+        for (Connection connection : connections) {
+            connection.offer(new Event(eventName, data));
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void sendHeartbeats() {
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                connection.offer(Event.HEARTBEAT);
+            }
+        }
+    }
+
+    private void abandonStalledSends() {
+        long now = System.nanoTime();
+        long sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                if (connection.abandonIfStalled(now, sendTimeoutNanos)) {
+                    sendTimeouts.increment();
+                }
+            }
+        }
+    }
+
+    private void remove(Connection connection) {
+        connectionsByUser.computeIfPresent(connection.userId, (id, connections) -> {
+            if (connections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * A named event, or a heartbeat comment when the name is null
+     */
+    private record Event(String name, Object data) {
+
+        static final Event HEARTBEAT = new Event(null, "heartbeat");
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment((String) data);
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    /**
+     * One open stream. Events are buffered here and written by at most one sender
+     * thread at a time, so they reach the client in order.
+     */
+    private class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+
+        // Guarded by this
+        private final ArrayDeque<Event> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private Thread sendingThread;
+        private long sendStartedNanos;
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(Event event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (event == Event.HEARTBEAT && !buffer.isEmpty()) {
+                    // Pending events keep the connection alive already
+                    return;
+                }
+                if (EVENT_UNREAD_COUNT.equals(event.name())) {
+                    // Only the latest count matters
+                    buffer.removeIf(pending -> EVENT_UNREAD_COUNT.equals(pending.name()));
+                }
+                if (buffer.size() >= bufferSize) {
+                    // The client isn't keeping up: drop what it hasn't read and have it reload
+                    eventsDropped.increment(buffer.size());
+                    buffer.clear();
+                    buffer.add(new Event(EVENT_RESYNC, Map.of()));
+                }
+                buffer.add(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                close();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                synchronized (this) {
+                    event = closed ? null : buffer.poll();
+                    if (event == null) {
+                        draining = false;
+                        if (!closed) {
+                            return;
+                        }
+                    } else {
+                        sendingThread = Thread.currentThread();
+                        sendStartedNanos = System.nanoTime();
+                    }
+                }
+                if (event == null) {
+                    // Abandoned while this thread was writing; the emitter couldn't be completed until the write returned
+                    complete();
+                    return;
+                }
+                try {
+                    emitter.send(event.toSse());
+                } catch (IOException | IllegalStateException e) {
+                    // Client disconnected, the stream already completed, or the send timed out
+                    close();
+                    complete();
+                    return;
+                } finally {
+                    synchronized (this) {
+                        sendingThread = null;
+                        // An interrupt from abandonIfStalled is only sent while sendingThread is set
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Drop this stream if its current write has been blocked longer than the timeout, and
+         * interrupt the writer; returns whether it was dropped
+         */
+        boolean abandonIfStalled(long now, long sendTimeoutNanos) {
+            synchronized (this) {
+                if (closed || sendingThread == null || now - sendStartedNanos < sendTimeoutNanos) {
+                    return false;
+                }
+                closed = true;
+                buffer.clear();
+                sendingThread.interrupt();
+            }
+            remove(this);
+            return true;
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            remove(this);
+            synchronized (this) {
+                if (sendingThread != null) {
+                    // Completing waits for the write in progress; the sender completes it when done
+                    return;
+                }
+            }
+            complete();
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed
+            }
+        }
+    }
+}
@@ -1,156 +1,197 @@
 package com.expenses_tracker.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.expenses_tracker.entity.Notification;
 import com.expenses_tracker.entity.RecurringBill;
 import com.expenses_tracker.entity.User;
 import com.expenses_tracker.repository.NotificationRepository;
-import com.expenses_tracker.repository.RecurringBillRepository;
 import com.expenses_tracker.repository.UserRepository;
 
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class NotificationService {
 
+    private static final String KIND_MESSAGE = "MESSAGE";
+    private static final String KIND_BILL_REMINDER = "BILL_REMINDER";
+    public static final String KIND_BILL_DUE = "BILL_DUE";
+    public static final String KIND_BUDGET_EXCEEDED = "BUDGET_EXCEEDED";
+    public static final String KIND_BUDGET_APPROACHING = "BUDGET_APPROACHING";
+
     @Autowired
     private NotificationRepository notificationRepository;
 
     @Autowired
-    private RecurringBillRepository recurringBillRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private NotificationHub notificationHub;
 
-    /**
-     * Scheduled task that runs every minute
-     * Checks for bills that need reminders based on custom reminder settings
-     */
-    @Scheduled(cron = "0 * * * * *") // Runs every minute at the start of the minute
-    public void checkForUpcomingBills() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = now.toLocalDate();
-        int currentHour = now.getHour();
-        int currentMinute = now.getMinute();
-        
-        System.out.println("=== Bill Notification Check at " + now + " ===");
-        
-        // Get all recurring bills
-        List<RecurringBill> allBills = recurringBillRepository.findAll();
-        System.out.println("Found " + allBills.size() + " total bills");
-        
-        for (RecurringBill bill : allBills) {
-            // Skip if bill has no due date set
-            if (bill.getNextDueDate() == null) {
-                System.out.println("Skipping bill '" + bill.getName() + "' - no due date set");
-                continue;
-            }
-            
-            // Get custom reminder settings or use defaults (only if null)
-            int reminderDaysBefore = bill.getReminderDaysBefore() != null ? bill.getReminderDaysBefore() : 2;
-            int reminderHour = bill.getReminderHour() != null ? bill.getReminderHour() : 9;
-            int reminderMinute = bill.getReminderMinute() != null ? bill.getReminderMinute() : 0;
-            
-            System.out.println("Checking bill: " + bill.getName() + 
-                             " | Due: " + bill.getNextDueDate() + 
-                             " | Remind: " + reminderDaysBefore + " days before at " + 
-                             String.format("%02d:%02d", reminderHour, reminderMinute));
-            
-            // Calculate when the reminder should be sent
-            LocalDate reminderDate = bill.getNextDueDate().minusDays(reminderDaysBefore);
-            
-            System.out.println("  Reminder date: " + reminderDate + " | Today: " + today);
-            
-            // Check if today is the reminder date
-            if (reminderDate.equals(today)) {
-                System.out.println("  ✓ Today is reminder date!");
-                
-                // Check if current time matches the reminder time (exact hour and minute)
-                if (currentHour == reminderHour && currentMinute == reminderMinute) {
-                    System.out.println("  ✓ Time matches! Current: " + currentHour + ":" + currentMinute);
-                    
-                    // Check if notification already exists for this bill today
-                    if (!hasNotificationToday(bill.getUser().getId(), bill.getName())) {
-                        System.out.println("  ✓ No notification sent yet today. Creating notification...");
-                        
-                        // Create notification
-                        String message = String.format("Reminder: Your '%s' bill of ₹%.2f is due in %d day(s).", 
-                            bill.getName(), bill.getAmount(), reminderDaysBefore);
-                        
-                        createNotification(bill.getUser(), message);
-                        System.out.println("  ✅ Notification created!");
-                    } else {
-                        System.out.println("  ⏭ Notification already sent today");
-                    }
-                } else {
-                    System.out.println("  ✗ Time doesn't match. Expected: " + reminderHour + ":" + reminderMinute + 
-                                     " | Current: " + currentHour + ":" + currentMinute);
-                }
-            } else {
-                System.out.println("  ✗ Not reminder date yet");
-            }
-        }
-        
-        System.out.println("=== Check complete ===\n");
+    @Autowired
+    private UnreadNotificationCounts unreadNotificationCounts;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Inserts run in their own transaction: a duplicate key then rolls back only the insert,
+    // not the caller's transaction
+    private TransactionTemplate insertTransaction;
+
+    @PostConstruct
+    public void init() {
+        insertTransaction = new TransactionTemplate(transactionManager);
+        insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
-    
+
     /**
-     * Check if a notification for this bill was already created today
-     */
-    private boolean hasNotificationToday(Long userId, String billName) {
-        List<Notification> todayNotifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        LocalDate today = LocalDate.now();
-        
-        for (Notification notification : todayNotifications) {
-            // Check if notification was created today and contains the bill name
-            if (notification.getCreatedAt() != null) {
-                LocalDate notificationDate = notification.getCreatedAt().toLocalDateTime().toLocalDate();
-                if (notificationDate.equals(today) && notification.getMessage().contains(billName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+     * Create the reminder notification for a bill unless one was already sent today.
+     * Called by BillReminderScheduler when the bill's reminder minute arrives.
+     */
+    public void sendBillReminder(RecurringBill bill) {
+        String message = String.format("Reminder: Your '%s' bill of ₹%.2f is due in %d day(s).", 
+            bill.getName(), bill.getAmount(), bill.getEffectiveReminderDaysBefore());
+        createNotification(bill.getUser(), KIND_BILL_REMINDER, String.valueOf(bill.getId()), message);
     }
 
     /**
-     * Create a new notification for a user (only if it doesn't already exist)
+     * Create a new notification for a user (only if the same message wasn't already sent today)
      */
     public Notification createNotification(User user, String message) {
-        // Check if similar notification already exists (within last 24 hours)
-        if (hasSimilarRecentNotification(user.getId(), message)) {
-            System.out.println("Skipping duplicate notification: " + message);
-            return null;
-        }
-        
-        Notification notification = new Notification(message, user);
-        return notificationRepository.save(notification);
+        return createNotification(user, KIND_MESSAGE, message, message);
     }
 
     /**
      * Create a new notification for a user by user ID (only if it doesn't already exist)
      */
     public Notification createNotification(Long userId, String message) {
+        return createNotification(userId, KIND_MESSAGE, message, message);
+    }
+
+    /**
+     * Create a notification unless one of the same kind about the same subject (e.g. a budget id)
+     * was already sent to the user today, whatever its message says
+     */
+    public Notification createNotification(Long userId, String kind, String subject, String message) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        return createNotification(user, message);
+        return createNotification(user, kind, subject, message);
     }
-    
+
+    /**
+     * Insert a notification unless one with the same (user, kind, subject, day) already exists.
+     * The dedupe key is unique in the database, so this is a single indexed lookup no matter
+     * how many notifications the user has, and a concurrent duplicate insert is rejected.
+     * The insert commits on its own (REQUIRES_NEW), so a rejected duplicate never leaves the
+     * caller's transaction rollback-only.
+     */
+    private Notification createNotification(User user, String kind, String subject, String message) {
+        String dedupeKey = dedupeKey(user.getId(), kind, subject, LocalDate.now());
+        if (notificationRepository.existsByDedupeKey(dedupeKey)) {
+            return null;
+        }
+
+        Notification notification = new Notification(message, user);
+        notification.setDedupeKey(dedupeKey);
+        Notification saved;
+        try {
+            saved = insertTransaction.execute(status -> notificationRepository.saveAndFlush(notification));
+        } catch (DataIntegrityViolationException e) {
+            // Another thread inserted the same notification first
+            return null;
+        }
+        // Already committed, whatever happens to the caller's transaction
+        Long userId = user.getId();
+        unreadNotificationCounts.adjust(userId, 1);
+        notificationHub.publish(userId, NotificationHub.EVENT_NOTIFICATION, saved);
+        publishUnreadCount(userId);
+        return saved;
+    }
+
+    /**
+     * Open a notification stream for the user. The stream starts with the current unread
+     * count and then receives new notifications and unread count changes.
+     */
+    public SseEmitter openStream(Long userId) {
+        SseEmitter emitter = notificationHub.connect(userId);
+        // Counted after connecting, so a change made in between is still pushed afterwards
+        publishUnreadCount(userId);
+        return emitter;
+    }
+
+    /**
+     * Number of unread notifications of a user, from the in-memory counter
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounts.get(userId);
+    }
+
+    private void publishUnreadCount(Long userId) {
+        if (!notificationHub.hasConnections(userId)) {
+            return;
+        }
+        notificationHub.publish(userId, NotificationHub.EVENT_UNREAD_COUNT, Map.of("count", getUnreadCount(userId)));
+    }
+
     /**
-     * Check if a similar notification already exists within the last 24 hours
+     * Update the user's unread count by delta (0 to reset it) once the change commits
      */
-    private boolean hasSimilarRecentNotification(Long userId, String message) {
-        LocalDateTime yesterday = LocalDateTime.now().minusHours(24);
-        List<Notification> recentNotifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        return recentNotifications.stream()
-            .filter(n -> n.getCreatedAt().toLocalDateTime().isAfter(yesterday))
-            .anyMatch(n -> n.getMessage().equals(message));
+    private void unreadCountChanged(Long userId, long delta) {
+        afterCommit(() -> {
+            if (delta == 0) {
+                unreadNotificationCounts.reset(userId);
+            } else {
+                unreadNotificationCounts.adjust(userId, delta);
+            }
+            publishUnreadCount(userId);
+        });
+    }
+
+    /**
+     * Run once the current transaction commits, or now when there is none, so counters
+     * and streams never see a change that is rolled back
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Deterministic key identifying a notification per user, kind, subject and day
+     */
+    static String dedupeKey(Long userId, String kind, String subject, LocalDate day) {
+        String raw = userId + "|" + kind + "|" + subject + "|" + day;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -173,8 +214,12 @@ public class NotificationService {
     public void markNotificationAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new RuntimeException("Notification not found with id: " + notificationId));
+        boolean wasUnread = !notification.isRead();
         notification.setRead(true);
         notificationRepository.save(notification);
+        if (wasUnread) {
+            unreadCountChanged(notification.getUser().getId(), -1);
+        }
     }
 
     /**
@@ -183,33 +228,41 @@ public class NotificationService {
     public void markNotificationAsUnread(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new RuntimeException("Notification not found with id: " + notificationId));
+        boolean wasRead = notification.isRead();
         notification.setRead(false);
         notificationRepository.save(notification);
+        if (wasRead) {
+            unreadCountChanged(notification.getUser().getId(), 1);
+        }
     }
 
     /**
      * Mark all notifications as read for a user
      */
+    @Transactional
     public void markAllNotificationsAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-        for (Notification notification : unreadNotifications) {
-            notification.setRead(true);
-        }
-        notificationRepository.saveAll(unreadNotifications);
+        notificationRepository.markAllAsReadByUserId(userId);
+        unreadCountChanged(userId, 0);
     }
 
     /**
      * Delete a notification
      */
     public void deleteNotification(Long notificationId) {
-        notificationRepository.deleteById(notificationId);
+        notificationRepository.findById(notificationId).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            if (!notification.isRead()) {
+                unreadCountChanged(notification.getUser().getId(), -1);
+            }
+        });
     }
     
     /**
      * Delete all notifications for a user
      */
+    @Transactional
     public void deleteAllNotifications(Long userId) {
-        List<Notification> userNotifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        notificationRepository.deleteAll(userNotifications);
+        notificationRepository.deleteAllByUserId(userId);
+        unreadCountChanged(userId, 0);
     }
 }
@@ -0,0 +1,175 @@
+package com.expenses_tracker.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.expenses_tracker.dto.CategoryTotal;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.Money;
+import com.expenses_tracker.entity.User;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+
+/**
+ * Renders the user expense report as a PDF.
+ * The expense table is a large table that is flushed every {@code reports.pdf.flush-rows} rows,
+ * so finished pages are written to the output stream and dropped instead of kept for the whole document.
+ */
+@Component
+public class PdfReportRenderer {
+
+    private static final DateTimeFormatter GENERATED_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a");
+    private static final float[] EXPENSE_COLUMN_WIDTHS = {5, 17, 9, 8, 11, 9, 11, 30};
+    private static final String[] EXPENSE_HEADERS = {
+        "ID", "Title", "Amount", "Date", "Category", "Type", "Payment", "Description"
+    };
+
+    private final int flushRows;
+
+    public PdfReportRenderer(@Value("${reports.pdf.flush-rows:100}") int flushRows) {
+        this.flushRows = Math.max(1, flushRows);
+    }
+
+    /**
+     * Write the report to the given stream and return the number of pages.
+     * {@code typeTotals} are the per expense type totals used for the summary; the stream is not closed.
+     */
+    public int render(User user, List<CategoryTotal> typeTotals, Iterator<Expense> expenses,
+                      OutputStream outputStream) throws IOException {
+        PdfWriter writer = new PdfWriter(outputStream);
+        writer.setCloseStream(false);
+        PdfDocument pdf = new PdfDocument(writer);
+        Document document = new Document(pdf, PageSize.A4.rotate());
+
+        PdfFont regular = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+        PdfFont bold = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        document.setFont(regular).setFontSize(9);
+
+        // Standard fonts have no rupee glyph, so amounts are labelled with the currency code
+        String currency = user.getPreferredCurrency() != null ? user.getPreferredCurrency() : "INR";
+
+        document.add(new Paragraph("Expenses Tracker Report").setFont(bold).setFontSize(18)
+            .setTextAlignment(TextAlignment.CENTER));
+
+        // User Info
+        document.add(sectionTitle("User Information", bold));
+        document.add(new Paragraph()
+            .add("Username: " + user.getUsername() + "\n")
+            .add("Email: " + user.getEmail() + "\n")
+            .add("Currency: " + currency + "\n")
+            .add("Generated: " + LocalDateTime.now().format(GENERATED_FORMAT)));
+
+        // Summary Statistics
+        // In minor units; see Money
+        long totalAmount = 0;
+        long personalTotal = 0;
+        long professionalTotal = 0;
+        long totalCount = 0;
+        long personalCount = 0;
+        long professionalCount = 0;
+        for (CategoryTotal typeTotal : typeTotals) {
+            long amount = typeTotal.getAmount().getMinorUnits();
+            totalAmount = Math.addExact(totalAmount, amount);
+            totalCount += typeTotal.getCount();
+            if ("PERSONAL".equalsIgnoreCase(typeTotal.getCategory())) {
+                personalTotal = Math.addExact(personalTotal, amount);
+                personalCount += typeTotal.getCount();
+            } else {
+                professionalTotal = Math.addExact(professionalTotal, amount);
+                professionalCount += typeTotal.getCount();
+            }
+        }
+
+        document.add(sectionTitle("Summary Statistics", bold));
+        Table summary = new Table(UnitValue.createPercentArray(new float[]{40, 40, 20})).setWidth(UnitValue.createPercentValue(60));
+        summary.addHeaderCell(headerCell("", bold));
+        summary.addHeaderCell(headerCell("Amount (" + currency + ")", bold));
+        summary.addHeaderCell(headerCell("Count", bold));
+        addSummaryRow(summary, "Total", Money.ofMinor(totalAmount), totalCount);
+        addSummaryRow(summary, "Personal", Money.ofMinor(personalTotal), personalCount);
+        addSummaryRow(summary, "Professional", Money.ofMinor(professionalTotal), professionalCount);
+        document.add(summary);
+
+        // Detailed Expenses List
+        document.add(sectionTitle("Detailed Expenses", bold));
+        Table table = new Table(UnitValue.createPercentArray(EXPENSE_COLUMN_WIDTHS), true)
+            .setWidth(UnitValue.createPercentValue(100));
+        for (String header : EXPENSE_HEADERS) {
+            table.addHeaderCell(headerCell(header, bold));
+        }
+        // A large table must be added before its rows so it can be laid out and flushed in chunks
+        document.add(table);
+
+        int rows = 0;
+        while (expenses.hasNext()) {
+            Expense expense = expenses.next();
+            table.addCell(expense.getId().toString());
+            table.addCell(nullToEmpty(expense.getTitle()));
+            table.addCell(new Cell().add(new Paragraph(formatAmount(expense.getAmount())))
+                .setTextAlignment(TextAlignment.RIGHT));
+            table.addCell(expense.getDate() != null ? expense.getDate().toString() : "");
+            table.addCell(nullToEmpty(expense.getCategory()));
+            table.addCell(nullToEmpty(expense.getExpenseType()));
+            table.addCell(nullToEmpty(expense.getPaymentMethod()));
+            table.addCell(nullToEmpty(expense.getDescription()));
+            if (++rows % flushRows == 0) {
+                table.flush();
+            }
+        }
+        table.complete();
+
+        document.add(new Paragraph("Grand Total: " + currency + " " + formatAmount(Money.ofMinor(totalAmount)))
+            .setFont(bold).setFontSize(12).setTextAlignment(TextAlignment.RIGHT));
+        document.add(new Paragraph("End of Report - Thank you for using Expenses Tracker")
+            .setFontColor(ColorConstants.GRAY).setTextAlignment(TextAlignment.CENTER));
+
+        int pages = pdf.getNumberOfPages();
+        document.close();
+        return pages;
+    }
+
+    private static Paragraph sectionTitle(String title, PdfFont bold) {
+        return new Paragraph(title).setFont(bold).setFontSize(12).setMarginTop(12);
+    }
+
+    private static Cell headerCell(String text, PdfFont bold) {
+        return new Cell().add(new Paragraph(text).setFont(bold)).setBackgroundColor(ColorConstants.LIGHT_GRAY);
+    }
+
+    private static void addSummaryRow(Table table, String label, Money amount, long count) {
+        table.addCell(label);
+        table.addCell(new Cell().add(new Paragraph(formatAmount(amount))).setTextAlignment(TextAlignment.RIGHT));
+        table.addCell(new Cell().add(new Paragraph(String.valueOf(count))).setTextAlignment(TextAlignment.RIGHT));
+    }
+
+    private static String formatAmount(BigDecimal amount) {
+        return amount != null ? String.format("%,.2f", amount) : "";
+    }
+
+    private static String formatAmount(Money amount) {
+        return formatAmount(amount.toBigDecimal());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
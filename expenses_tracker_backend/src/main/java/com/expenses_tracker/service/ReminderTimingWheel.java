@@ -0,0 +1,179 @@
+package com.expenses_tracker.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel with one-minute resolution, keyed by bill id.
+ *
+ * Three levels cover a little over a year: 60 one-minute slots, 24 one-hour slots and
+ * 366 one-day slots. An entry sits in the coarsest level its distance from "now" needs and
+ * is cascaded down when the hour or day it belongs to begins, so scheduling, cancelling and
+ * advancing one minute are all O(1) apart from the entries actually moved or fired.
+ *
+ * Times are expressed in epoch minutes. Not thread-safe on its own; callers synchronize.
+ */
+public class ReminderTimingWheel {
+
+    static final int MINUTE_LEVEL = 0;
+    static final int HOUR_LEVEL = 1;
+    static final int DAY_LEVEL = 2;
+
+    private static final int[] SLOTS = {60, 24, 366};
+    private static final long[] SLOT_MINUTES = {1, 60, 1440};
+
+    /** Furthest distance (in minutes) from the current minute that can be scheduled */
+    public static final long HORIZON_MINUTES = SLOTS[DAY_LEVEL] * SLOT_MINUTES[DAY_LEVEL];
+
+    private final List<List<Set<Long>>> levels = new ArrayList<>();
+    private final int[] levelSizes = new int[SLOTS.length];
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // Next minute to be processed; every scheduled entry is due at or after it
+    private long currentMinute;
+
+    public ReminderTimingWheel(long startMinute) {
+        this.currentMinute = startMinute;
+        for (int slotCount : SLOTS) {
+            List<Set<Long>> slots = new ArrayList<>(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                slots.add(new HashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedule (or reschedule) an id to fire at the given minute.
+     * Returns false if the minute has already passed or is beyond the horizon.
+     */
+    public boolean schedule(Long id, long dueMinute) {
+        cancel(id);
+        long delta = dueMinute - currentMinute;
+        if (delta < 0 || delta >= HORIZON_MINUTES) {
+            return false;
+        }
+        place(id, dueMinute);
+        return true;
+    }
+
+    /**
+     * Remove an id from the wheel. Returns false if it was not scheduled.
+     */
+    public boolean cancel(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        levels.get(entry.level).get(entry.slot).remove(id);
+        levelSizes[entry.level]--;
+        return true;
+    }
+
+    /**
+     * Process every minute up to and including targetMinute, returning the ids that
+     * became due (id -> due minute) in firing order.
+     */
+    public Map<Long, Long> advanceTo(long targetMinute) {
+        Map<Long, Long> fired = new LinkedHashMap<>();
+        while (currentMinute <= targetMinute) {
+            long minute = currentMinute;
+
+            // Cascade coarser levels first so their entries can land in this minute's slot
+            if (minute % SLOT_MINUTES[DAY_LEVEL] == 0) {
+                cascade(DAY_LEVEL, minute);
+            }
+            if (minute % SLOT_MINUTES[HOUR_LEVEL] == 0) {
+                cascade(HOUR_LEVEL, minute);
+            }
+
+            Set<Long> slot = levels.get(MINUTE_LEVEL).get(slotIndex(MINUTE_LEVEL, minute));
+            for (Long id : slot) {
+                Entry entry = entries.remove(id);
+                fired.put(id, entry.dueMinute);
+            }
+            levelSizes[MINUTE_LEVEL] -= slot.size();
+            slot.clear();
+
+            currentMinute = minute + 1;
+        }
+        return fired;
+    }
+
+    /**
+     * Snapshot of every scheduled id and its due minute
+     */
+    public Map<Long, Long> snapshot() {
+        Map<Long, Long> copy = new HashMap<>();
+        entries.forEach((id, entry) -> copy.put(id, entry.dueMinute));
+        return copy;
+    }
+
+    public Long getDueMinute(Long id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.dueMinute : null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int levelSize(int level) {
+        return levelSizes[level];
+    }
+
+    public long getCurrentMinute() {
+        return currentMinute;
+    }
+
+    private void place(Long id, long dueMinute) {
+        long delta = dueMinute - currentMinute;
+        int level;
+        if (delta < SLOT_MINUTES[HOUR_LEVEL]) {
+            level = MINUTE_LEVEL;
+        } else if (delta < SLOT_MINUTES[DAY_LEVEL]) {
+            level = HOUR_LEVEL;
+        } else {
+            level = DAY_LEVEL;
+        }
+        int slot = slotIndex(level, dueMinute);
+        levels.get(level).get(slot).add(id);
+        levelSizes[level]++;
+        entries.put(id, new Entry(dueMinute, level, slot));
+    }
+
+    private void cascade(int level, long minute) {
+        Set<Long> slot = levels.get(level).get(slotIndex(level, minute));
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(slot);
+        slot.clear();
+        levelSizes[level] -= ids.size();
+        for (Long id : ids) {
+            Entry entry = entries.remove(id);
+            place(id, entry.dueMinute);
+        }
+    }
+
+    private int slotIndex(int level, long minute) {
+        return (int) Math.floorMod(minute / SLOT_MINUTES[level], (long) SLOTS[level]);
+    }
+
+    private static class Entry {
+        private final long dueMinute;
+        private final int level;
+        private final int slot;
+
+        private Entry(long dueMinute, int level, int slot) {
+            this.dueMinute = dueMinute;
+            this.level = level;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.expenses_tracker.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.RecurringBill;
+import com.expenses_tracker.entity.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener on the entities that appear in reports. Bumps the owner's
+ * report data version once the change has committed, so a report rendered from
+ * the old data is never cached under the new version.
+ */
+@Component
+public class ReportDataChangeListener {
+
+    @Autowired
+    private ReportDataVersions reportDataVersions;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long userId = ownerId(entity);
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reportDataVersions.bump(userId);
+                }
+            });
+        } else {
+            reportDataVersions.bump(userId);
+        }
+    }
+
+    private static Long ownerId(Object entity) {
+        User user = null;
+        if (entity instanceof Expense expense) {
+            user = expense.getUser();
+        } else if (entity instanceof Budget budget) {
+            user = budget.getUser();
+        } else if (entity instanceof RecurringBill bill) {
+            user = bill.getUser();
+        }
+        return user != null ? user.getId() : null;
+    }
+}
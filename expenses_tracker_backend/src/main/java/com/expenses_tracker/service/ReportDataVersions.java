@@ -0,0 +1,30 @@
+package com.expenses_tracker.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user version of the data that goes into reports (expenses, budgets, recurring bills).
+ * Bumped by ReportDataChangeListener after every committed change, so a rendered report
+ * can be cached under (user, format, version) and reused until the user's data changes.
+ * Versions are in-memory only; a restart also empties the report cache.
+ */
+@Component
+public class ReportDataVersions {
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version != null ? version.get() : 0L;
+    }
+
+    public void bump(Long userId) {
+        if (userId != null) {
+            versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.expenses_tracker.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.expenses_tracker.dto.ReportFormat;
+import com.expenses_tracker.dto.ReportJob;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Renders reports in the background on a small bounded pool and keeps the results as temp files.
+ * Results are cached by (user, format, report data version): asking again for a report whose data
+ * hasn't changed returns the existing job instead of rendering it again. Cached results expire after
+ * a TTL, and the least recently used ones are evicted when their total size exceeds the limit.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportDataVersions reportDataVersions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${reports.jobs.threads:2}")
+    private int threads;
+
+    @Value("${reports.jobs.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${reports.jobs.cache-ttl-minutes:30}")
+    private long cacheTtlMinutes;
+
+    @Value("${reports.jobs.cache-max-bytes:268435456}")
+    private long cacheMaxBytes;
+
+    private ThreadPoolExecutor executor;
+
+    private final Map<String, ReportJob> jobsById = new ConcurrentHashMap<>();
+
+    // Jobs by cache key in least recently used order; guarded by this
+    private final LinkedHashMap<String, ReportJob> jobsByKey = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    private Counter cacheHits;
+    private Counter cacheMisses;
+    private Counter rejected;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "report-job-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        cacheHits = meterRegistry.counter("reports.jobs.cache.hits");
+        cacheMisses = meterRegistry.counter("reports.jobs.cache.misses");
+        rejected = meterRegistry.counter("reports.jobs.rejected");
+        Gauge.builder("reports.jobs.queue.depth", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("reports.jobs.cache.bytes", this, ReportJobService::getCachedBytes)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        executor.shutdownNow();
+        for (ReportJob job : jobsByKey.values()) {
+            deleteQuietly(job.getFile());
+        }
+        jobsByKey.clear();
+        jobsById.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Return the job for this user's current data in the given format, queuing a new one
+     * if none is cached. Throws RejectedExecutionException when the render queue is full.
+     */
+    public synchronized ReportJob submit(Long userId, ReportFormat format) {
+        long dataVersion = reportDataVersions.current(userId);
+        String key = userId + ":" + format + ":" + dataVersion;
+
+        ReportJob existing = jobsByKey.get(key);
+        if (existing != null && existing.getStatus() != ReportJob.Status.FAILED && !isExpired(existing)) {
+            cacheHits.increment();
+            return existing;
+        }
+        if (existing != null) {
+            evict(key);
+        }
+        cacheMisses.increment();
+
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), userId, format, dataVersion);
+        try {
+            executor.execute(() -> render(job, key));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+        jobsById.put(job.getId(), job);
+        jobsByKey.put(key, job);
+        return job;
+    }
+
+    /**
+     * Get a job by ID, or null if it is unknown or has expired
+     */
+    public ReportJob getJob(String jobId) {
+        ReportJob job = jobsById.get(jobId);
+        return job != null && !isExpired(job) ? job : null;
+    }
+
+    /**
+     * Remove expired results and their files
+     */
+    @Scheduled(fixedDelayString = "${reports.jobs.cleanup-interval-ms:60000}")
+    public synchronized void evictExpired() {
+        List<String> expired = new ArrayList<>();
+        for (Map.Entry<String, ReportJob> entry : jobsByKey.entrySet()) {
+            if (isExpired(entry.getValue())) {
+                expired.add(entry.getKey());
+            }
+        }
+        expired.forEach(this::evict);
+    }
+
+    private void render(ReportJob job, String key) {
+        job.markRunning();
+        Path file = null;
+        try {
+            file = Files.createTempFile("report-" + job.getUserId() + "-", "." + job.getFormat().getFileExtension());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                reportService.writeUserReport(job.getUserId(), job.getFormat(), out);
+            }
+            job.markDone(file, Files.size(file));
+            onRendered(key, job);
+        } catch (Exception e) {
+            deleteQuietly(file);
+            job.markFailed(e.getMessage());
+            log.error("Report job {} failed", job.getId(), e);
+        }
+    }
+
+    private synchronized void onRendered(String key, ReportJob job) {
+        if (jobsByKey.get(key) != job) {
+            // Evicted while rendering
+            deleteQuietly(job.getFile());
+            return;
+        }
+        cachedBytes += job.getSizeBytes();
+
+        // Evict the least recently used results until the cache fits, keeping the one just rendered
+        Iterator<Map.Entry<String, ReportJob>> iterator = jobsByKey.entrySet().iterator();
+        while (cachedBytes > cacheMaxBytes && iterator.hasNext()) {
+            Map.Entry<String, ReportJob> entry = iterator.next();
+            ReportJob candidate = entry.getValue();
+            if (candidate != job && candidate.getStatus() == ReportJob.Status.DONE) {
+                iterator.remove();
+                forget(candidate);
+            }
+        }
+    }
+
+    private void evict(String key) {
+        ReportJob job = jobsByKey.remove(key);
+        if (job != null) {
+            forget(job);
+        }
+    }
+
+    private void forget(ReportJob job) {
+        jobsById.remove(job.getId());
+        if (job.getStatus() == ReportJob.Status.DONE) {
+            cachedBytes -= job.getSizeBytes();
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    private boolean isExpired(ReportJob job) {
+        LocalDateTime completedAt = job.getCompletedAt();
+        return completedAt != null && completedAt.plusMinutes(cacheTtlMinutes).isBefore(LocalDateTime.now());
+    }
+
+    private synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.expenses_tracker.service;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.math.BigDecimal;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -16,11 +19,17 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import com.expenses_tracker.dto.CategoryTotal;
+import com.expenses_tracker.dto.ReportFormat;
 import com.expenses_tracker.entity.Budget;
 import com.expenses_tracker.entity.Expense;
 import com.expenses_tracker.entity.RecurringBill;
@@ -31,6 +40,10 @@ import com.expenses_tracker.repository.RecurringBillRepository;
 import com.expenses_tracker.repository.UserRepository;
 import com.opencsv.CSVWriter;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class ReportService {
 
@@ -46,29 +59,124 @@ public class ReportService {
     @Autowired
     private RecurringBillRepository recurringBillRepository;
 
+    @Autowired
+    private PdfReportRenderer pdfReportRenderer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${reports.excel.row-window:100}")
+    private int excelRowWindow;
+
+    @Value("${reports.excel.compress-temp-files:true}")
+    private boolean excelCompressTempFiles;
+
+    /**
+     * Fail with "User not found" for an unknown user. Streamed reports call this before the
+     * response is committed, as errors while writing can no longer change its status.
+     */
+    public void checkUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+    }
+
+    /**
+     * Write the user report in the given format to the stream. The stream is not closed.
+     * Records reports.generation (time) and reports.generation.bytes, tagged by format and outcome.
+     */
+    @Transactional(readOnly = true)
+    public void writeUserReport(Long userId, ReportFormat format, OutputStream outputStream) throws IOException {
+        CountingOutputStream out = new CountingOutputStream(outputStream);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            switch (format) {
+                case CSV -> writeUserCSVReport(userId, out);
+                case EXCEL -> writeUserExcelReport(userId, out);
+                case PDF -> writeUserPDFReport(userId, out);
+            }
+            outcome = "success";
+        } finally {
+            String formatTag = format.name().toLowerCase();
+            sample.stop(Timer.builder("reports.generation")
+                .description("Time to generate a report")
+                .tags("format", formatTag, "outcome", outcome)
+                .register(meterRegistry));
+            DistributionSummary.builder("reports.generation.bytes")
+                .description("Size of generated reports")
+                .baseUnit("bytes")
+                .tags("format", formatTag, "outcome", outcome)
+                .register(meterRegistry)
+                .record(out.count);
+        }
+    }
+
+    /**
+     * Passes writes through while counting the bytes
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
     /**
      * Generate CSV report for user expenses
      */
+    @Transactional(readOnly = true)
     public byte[] generateUserCSVReport(Long userId) throws IOException {
-        List<Expense> expenses = expenseRepository.findByUserId(userId);
-
-        StringWriter stringWriter = new StringWriter();
-        // Write header
-        try (CSVWriter csvWriter = new CSVWriter(stringWriter)) {
-            // Write Expenses Section Header
-            csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
-            csvWriter.writeNext(new String[]{"EXPENSES REPORT"});
-            csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
-            csvWriter.writeNext(new String[]{});
-            
-            // Write expenses header
-            csvWriter.writeNext(new String[]{
-                "Expense ID", "Title", "Description", "Amount (₹)", "Date",
-                "Category", "Payment Method", "Type"
-            });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeUserCSVReport(userId, outputStream);
+        return outputStream.toByteArray();
+    }
 
-            // Write expenses data
-            for (Expense expense : expenses) {
+    /**
+     * Write the CSV report for a user straight to the given stream.
+     * Expenses are read through a database cursor and detached as they are read,
+     * so memory use stays flat no matter how many expenses the user has.
+     * The stream is flushed but not closed.
+     */
+    @Transactional(readOnly = true)
+    public void writeUserCSVReport(Long userId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        CSVWriter csvWriter = new CSVWriter(writer);
+
+        // Write Expenses Section Header
+        csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
+        csvWriter.writeNext(new String[]{"EXPENSES REPORT"});
+        csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
+        csvWriter.writeNext(new String[]{});
+
+        // Write expenses header
+        csvWriter.writeNext(new String[]{
+            "Expense ID", "Title", "Description", "Amount (₹)", "Date",
+            "Category", "Payment Method", "Type"
+        });
+
+        // Write expenses data
+        try (Stream<Expense> expenses = expenseRepository.streamByUserId(userId)) {
+            Iterator<Expense> iterator = detaching(expenses);
+            while (iterator.hasNext()) {
+                Expense expense = iterator.next();
                 csvWriter.writeNext(new String[]{
                     expense.getId().toString(),
                     expense.getTitle(),
@@ -80,215 +188,239 @@ public class ReportService {
                     expense.getExpenseType()
                 });
             }
-            
-            // Add spacing
-            csvWriter.writeNext(new String[]{});
-            csvWriter.writeNext(new String[]{});
-            
-            // Write Budgets Section
-            List<Budget> budgets = budgetRepository.findByUserId(userId);
-            csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
-            csvWriter.writeNext(new String[]{"BUDGETS REPORT"});
-            csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
-            csvWriter.writeNext(new String[]{});
-            
-            // Write budgets header
+        }
+
+        // Add spacing
+        csvWriter.writeNext(new String[]{});
+        csvWriter.writeNext(new String[]{});
+
+        // Write Budgets Section
+        List<Budget> budgets = budgetRepository.findByUserId(userId);
+        csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
+        csvWriter.writeNext(new String[]{"BUDGETS REPORT"});
+        csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
+        csvWriter.writeNext(new String[]{});
+
+        // Write budgets header
+        csvWriter.writeNext(new String[]{
+            "Budget ID", "Category", "Limit Amount (₹)", "Start Date", "End Date"
+        });
+
+        // Write budgets data
+        for (Budget budget : budgets) {
             csvWriter.writeNext(new String[]{
-                "Budget ID", "Category", "Limit Amount (₹)", "Start Date", "End Date"
+                budget.getId().toString(),
+                budget.getCategory(),
+                "₹" + budget.getLimitAmount().toString(),
+                budget.getStartDate().toString(),
+                budget.getEndDate().toString()
             });
-            
-            // Write budgets data
-            for (Budget budget : budgets) {
-                csvWriter.writeNext(new String[]{
+        }
+
+        // Add spacing
+        csvWriter.writeNext(new String[]{});
+        csvWriter.writeNext(new String[]{});
+
+        // Write Bills Section
+        List<RecurringBill> bills = recurringBillRepository.findByUserId(userId);
+        csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
+        csvWriter.writeNext(new String[]{"RECURRING BILLS REPORT"});
+        csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
+        csvWriter.writeNext(new String[]{});
+
+        // Write bills header
+        csvWriter.writeNext(new String[]{
+            "Bill ID", "Name", "Amount (₹)", "Category", "Frequency", "Next Due Date", "Description"
+        });
+
+        // Write bills data
+        for (RecurringBill bill : bills) {
+            csvWriter.writeNext(new String[]{
+                bill.getId().toString(),
+                bill.getName(),
+                "₹" + bill.getAmount().toString(),
+                bill.getCategory(),
+                bill.getFrequency(),
+                bill.getNextDueDate() != null ? bill.getNextDueDate().toString() : "N/A",
+                bill.getDescription() != null ? bill.getDescription() : ""
+            });
+        }
+
+        csvWriter.flush();
+    }
+
+    /**
+     * Generate Excel report for user expenses
+     */
+    @Transactional(readOnly = true)
+    public byte[] generateUserExcelReport(Long userId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeUserExcelReport(userId, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Write the Excel report (Expenses, Budgets and Recurring Bills sheets) straight to the given stream.
+     * Uses a streaming workbook that keeps only the last {@code reports.excel.row-window} rows of a sheet
+     * in memory and spills older rows to compressed temp files. The stream is not closed.
+     */
+    @Transactional(readOnly = true)
+    public void writeUserExcelReport(Long userId, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(excelRowWindow);
+        workbook.setCompressTempFiles(excelCompressTempFiles);
+        try {
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+            // Expenses sheet
+            ExcelSheetWriter expensesSheet = new ExcelSheetWriter(workbook.createSheet("Expenses Report"), headerStyle,
+                "Expense ID", "Title", "Description", "Amount (₹)", "Date", "Category", "Payment Method", "Type");
+            try (Stream<Expense> expenses = expenseRepository.streamByUserId(userId)) {
+                Iterator<Expense> iterator = detaching(expenses);
+                while (iterator.hasNext()) {
+                    Expense expense = iterator.next();
+                    expensesSheet.writeRow(
+                        expense.getId().toString(),
+                        expense.getTitle(),
+                        expense.getDescription(),
+                        "₹" + expense.getAmount().toString(),
+                        expense.getDate().toString(),
+                        expense.getCategory(),
+                        expense.getPaymentMethod(),
+                        expense.getExpenseType());
+                }
+            }
+            expensesSheet.applyColumnWidths();
+
+            // Budgets sheet
+            ExcelSheetWriter budgetsSheet = new ExcelSheetWriter(workbook.createSheet("Budgets"), headerStyle,
+                "Budget ID", "Category", "Limit Amount (₹)", "Start Date", "End Date");
+            for (Budget budget : budgetRepository.findByUserId(userId)) {
+                budgetsSheet.writeRow(
                     budget.getId().toString(),
                     budget.getCategory(),
                     "₹" + budget.getLimitAmount().toString(),
                     budget.getStartDate().toString(),
-                    budget.getEndDate().toString()
-                });
+                    budget.getEndDate().toString());
             }
-            
-            // Add spacing
-            csvWriter.writeNext(new String[]{});
-            csvWriter.writeNext(new String[]{});
-            
-            // Write Bills Section
-            List<RecurringBill> bills = recurringBillRepository.findByUserId(userId);
-            csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
-            csvWriter.writeNext(new String[]{"RECURRING BILLS REPORT"});
-            csvWriter.writeNext(new String[]{"═══════════════════════════════════════════════════════════"});
-            csvWriter.writeNext(new String[]{});
-            
-            // Write bills header
-            csvWriter.writeNext(new String[]{
-                "Bill ID", "Name", "Amount (₹)", "Category", "Frequency", "Next Due Date", "Description"
-            });
-            
-            // Write bills data
-            for (RecurringBill bill : bills) {
-                csvWriter.writeNext(new String[]{
+            budgetsSheet.applyColumnWidths();
+
+            // Recurring bills sheet
+            ExcelSheetWriter billsSheet = new ExcelSheetWriter(workbook.createSheet("Recurring Bills"), headerStyle,
+                "Bill ID", "Name", "Amount (₹)", "Category", "Frequency", "Next Due Date", "Description");
+            for (RecurringBill bill : recurringBillRepository.findByUserId(userId)) {
+                billsSheet.writeRow(
                     bill.getId().toString(),
                     bill.getName(),
                     "₹" + bill.getAmount().toString(),
                     bill.getCategory(),
                     bill.getFrequency(),
                     bill.getNextDueDate() != null ? bill.getNextDueDate().toString() : "N/A",
-                    bill.getDescription() != null ? bill.getDescription() : ""
-                });
+                    bill.getDescription() != null ? bill.getDescription() : "");
             }
+            billsSheet.applyColumnWidths();
+
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            // Remove the temp files backing the flushed rows
+            workbook.dispose();
+            workbook.close();
         }
-        return stringWriter.toString().getBytes(StandardCharsets.UTF_8);
     }
 
     /**
-     * Generate Excel report for user expenses
+     * Appends rows to a streaming sheet and tracks the longest value per column,
+     * so widths can be set from a character count instead of autoSizeColumn (which needs every row in memory).
      */
-    public byte[] generateUserExcelReport(Long userId) throws IOException {
-        List<Expense> expenses = expenseRepository.findByUserId(userId);
+    private static class ExcelSheetWriter {
 
-        // --- FIX 1: Declare outputStream here ---
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        private static final int MIN_COLUMN_CHARS = 8;
+        private static final int MAX_COLUMN_CHARS = 60;
+        private static final int COLUMN_PADDING_CHARS = 2;
 
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Expenses Report");
-            // Create header style
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerStyle.setFont(headerFont);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Expense ID", "Title", "Description", "Amount (₹)", "Date",
-                "Category", "Payment Method", "Type"};
+        private final Sheet sheet;
+        private final int[] maxChars;
+        private int nextRow;
+
+        ExcelSheetWriter(Sheet sheet, CellStyle headerStyle, String... headers) {
+            this.sheet = sheet;
+            this.maxChars = new int[headers.length];
+            Row headerRow = sheet.createRow(nextRow++);
             for (int i = 0; i < headers.length; i++) {
                 Cell cell = headerRow.createCell(i);
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
+                maxChars[i] = headers[i].length();
             }
-            // Create data rows
-            int rowNum = 1;
-            for (Expense expense : expenses) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(expense.getId());
-                row.createCell(1).setCellValue(expense.getTitle());
-                row.createCell(2).setCellValue(expense.getDescription());
-                row.createCell(3).setCellValue("₹" + expense.getAmount().toString());
-                row.createCell(4).setCellValue(expense.getDate().toString());
-                row.createCell(5).setCellValue(expense.getCategory());
-                row.createCell(6).setCellValue(expense.getPaymentMethod());
-                row.createCell(7).setCellValue(expense.getExpenseType());
-            }
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+        }
+
+        void writeRow(String... values) {
+            Row row = sheet.createRow(nextRow++);
+            for (int i = 0; i < values.length; i++) {
+                String value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                row.createCell(i).setCellValue(value);
+                maxChars[i] = Math.max(maxChars[i], value.length());
             }
-            // --- FIX 1: Write to the outputStream ---
-            workbook.write(outputStream);
         }
 
-        return outputStream.toByteArray();
+        void applyColumnWidths() {
+            for (int i = 0; i < maxChars.length; i++) {
+                int chars = Math.min(Math.max(maxChars[i], MIN_COLUMN_CHARS) + COLUMN_PADDING_CHARS, MAX_COLUMN_CHARS);
+                // Column width is measured in 1/256ths of a character
+                sheet.setColumnWidth(i, chars * 256);
+            }
+        }
     }
 
     /**
      * Generate PDF report for user expenses
      */
+    @Transactional(readOnly = true)
     public byte[] generateUserPDFReport(Long userId) throws IOException {
-        List<Expense> expenses = expenseRepository.findByUserId(userId);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeUserPDFReport(userId, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Write the PDF report straight to the given stream, page by page. The stream is not closed.
+     */
+    @Transactional(readOnly = true)
+    public void writeUserPDFReport(Long userId, OutputStream outputStream) throws IOException {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        List<CategoryTotal> typeTotals = expenseRepository.sumAmountByExpenseType(userId);
 
-        // Create formatted text report with better structure
-        StringBuilder pdfContent = new StringBuilder();
-        
-        // Header
-        pdfContent.append("═══════════════════════════════════════════════════════════════════════════\n");
-        pdfContent.append("                          EXPENSES TRACKER REPORT                           \n");
-        pdfContent.append("═══════════════════════════════════════════════════════════════════════════\n\n");
-        
-        // User Info
-        pdfContent.append("USER INFORMATION\n");
-        pdfContent.append("───────────────────────────────────────────────────────────────────────────\n");
-        pdfContent.append(String.format("  Username      : %s\n", user.getUsername()));
-        pdfContent.append(String.format("  Email         : %s\n", user.getEmail()));
-        pdfContent.append(String.format("  Currency      : %s\n", user.getPreferredCurrency()));
-        pdfContent.append(String.format("  Generated     : %s\n", 
-            LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a"))));
-        pdfContent.append("\n\n");
-
-        // Summary Statistics
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        BigDecimal personalTotal = BigDecimal.ZERO;
-        BigDecimal professionalTotal = BigDecimal.ZERO;
-        int personalCount = 0;
-        int professionalCount = 0;
-
-        for (Expense expense : expenses) {
-            totalAmount = totalAmount.add(expense.getAmount());
-            if ("PERSONAL".equalsIgnoreCase(expense.getExpenseType())) {
-                personalTotal = personalTotal.add(expense.getAmount());
-                personalCount++;
-            } else {
-                professionalTotal = professionalTotal.add(expense.getAmount());
-                professionalCount++;
-            }
+        try (Stream<Expense> expenses = expenseRepository.streamByUserId(userId)) {
+            pdfReportRenderer.render(user, typeTotals, detaching(expenses), outputStream);
         }
+    }
 
-        pdfContent.append("SUMMARY STATISTICS\n");
-        pdfContent.append("───────────────────────────────────────────────────────────────────────────\n");
-        pdfContent.append(String.format("  Total Expenses        : ₹ %,.2f\n", totalAmount));
-        pdfContent.append(String.format("  Total Count           : %d expenses\n", expenses.size()));
-        pdfContent.append(String.format("  Personal Expenses     : ₹ %,.2f (%d expenses)\n", personalTotal, personalCount));
-        pdfContent.append(String.format("  Professional Expenses : ₹ %,.2f (%d expenses)\n", professionalTotal, professionalCount));
-        pdfContent.append("\n\n");
-
-        // Detailed Expenses List
-        pdfContent.append("DETAILED EXPENSES\n");
-        pdfContent.append("═══════════════════════════════════════════════════════════════════════════\n");
-        pdfContent.append(String.format("%-4s %-25s %-12s %-12s %-15s %-10s\n",
-            "ID", "Title", "Amount", "Date", "Category", "Type"));
-        pdfContent.append("───────────────────────────────────────────────────────────────────────────\n");
-
-        for (Expense expense : expenses) {
-            String title = expense.getTitle();
-            if (title.length() > 25) {
-                title = title.substring(0, 22) + "...";
-            }
-            
-            String category = expense.getCategory();
-            if (category.length() > 15) {
-                category = category.substring(0, 12) + "...";
+    /**
+     * Iterate a streamed query, detaching each expense as it is handed out
+     * so the persistence context doesn't grow with every row
+     */
+    private Iterator<Expense> detaching(Stream<Expense> expenses) {
+        Iterator<Expense> iterator = expenses.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
             }
 
-            pdfContent.append(String.format("%-4d %-25s ₹%-10.2f %-12s %-15s %-10s\n",
-                expense.getId(),
-                title,
-                expense.getAmount(),
-                expense.getDate().toString(),
-                category,
-                expense.getExpenseType()
-            ));
-            
-            // Add description if exists
-            if (expense.getDescription() != null && !expense.getDescription().isEmpty()) {
-                String desc = expense.getDescription();
-                if (desc.length() > 70) {
-                    desc = desc.substring(0, 67) + "...";
-                }
-                pdfContent.append(String.format("     Description: %s\n", desc));
+            @Override
+            public Expense next() {
+                Expense expense = iterator.next();
+                entityManager.detach(expense);
+                return expense;
             }
-            
-            // Add payment method
-            pdfContent.append(String.format("     Payment: %s\n\n", expense.getPaymentMethod()));
-        }
-
-        pdfContent.append("═══════════════════════════════════════════════════════════════════════════\n");
-        pdfContent.append(String.format("                    GRAND TOTAL: ₹ %,.2f\n", totalAmount));
-        pdfContent.append("═══════════════════════════════════════════════════════════════════════════\n");
-        pdfContent.append("\n\n");
-        pdfContent.append("                    End of Report - Thank you for using Expenses Tracker\n");
-
-        // Convert to bytes
-        return pdfContent.toString().getBytes(StandardCharsets.UTF_8);
+        };
     }
 }
\ No newline at end of file
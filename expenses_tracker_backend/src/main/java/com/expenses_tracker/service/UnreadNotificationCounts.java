@@ -0,0 +1,71 @@
+package com.expenses_tracker.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.expenses_tracker.repository.NotificationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory unread notification count per user. A count is loaded with one COUNT query
+ * and then kept current by NotificationService as notifications are created, read,
+ * unread and deleted. Entries expire a fixed time after they were loaded, however often
+ * they are adjusted, so a count that drifted (e.g. changes from another instance) is
+ * corrected by the next load.
+ */
+@Service
+public class UnreadNotificationCounts {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notifications.unread-count.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${notifications.unread-count.max-size:10000}")
+    private long maxSize;
+
+    private Cache<Long, Long> counts;
+
+    @PostConstruct
+    public void start() {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        counts = Caffeine.newBuilder()
+            .expireAfter(Expiry.<Long, Long>creating((userId, count) -> ttl))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "notifications.unread", "layer", "application");
+    }
+
+    public long get(Long userId) {
+        return counts.get(userId, notificationRepository::countByUserIdAndIsReadFalse);
+    }
+
+    /**
+     * Apply a committed change to a cached count; a count that isn't cached is loaded
+     * fresh on the next read instead
+     */
+    public void adjust(Long userId, long delta) {
+        counts.asMap().computeIfPresent(userId, (id, count) -> Math.max(0, count + delta));
+    }
+
+    /**
+     * Every notification of the user is now read or deleted
+     */
+    public void reset(Long userId) {
+        counts.asMap().computeIfPresent(userId, (id, count) -> 0L);
+    }
+}
@@ -0,0 +1,62 @@
+package com.expenses_tracker.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.expenses_tracker.entity.User;
+import com.expenses_tracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Short-lived cache of User rows by id, for the profile and preference reads that the
+ * session principal doesn't carry. Entries expire after a TTL and are evicted by
+ * {@link UserChangeListener} as soon as a user update or delete commits.
+ */
+@Service
+public class UserCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${users.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${users.cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<Long, User> users;
+
+    @PostConstruct
+    public void start() {
+        users = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users", "layer", "application");
+    }
+
+    /**
+     * Return the user with this id, loading it on a miss. The returned entity is detached
+     * and shared between requests, so callers must not modify it.
+     */
+    public User get(Long id) {
+        return users.get(id, key -> userRepository.findById(key)
+            .orElseThrow(() -> new RuntimeException("User not found with id: " + key)));
+    }
+
+    public void evict(Long id) {
+        users.invalidate(id);
+    }
+}
@@ -0,0 +1,41 @@
+package com.expenses_tracker.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.expenses_tracker.entity.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener on User. Evicts the user from the {@link UserCache} once the
+ * change has committed, so a concurrent read can't cache the old row again.
+ */
+@Component
+public class UserChangeListener {
+
+    @Autowired
+    private UserCache userCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        Long userId = user.getId();
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.evict(userId);
+                }
+            });
+        } else {
+            userCache.evict(userId);
+        }
+    }
+}
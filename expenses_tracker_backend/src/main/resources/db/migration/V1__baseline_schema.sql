@@ -0,0 +1,131 @@
+-- Baseline schema, matching what Hibernate generated from the entities before migrations were introduced.
+-- Existing databases are baselined at version 0, so every statement here must be a no-op on them:
+-- tables use IF NOT EXISTS and columns added since then are only added when missing.
+
+CREATE TABLE IF NOT EXISTS users (
+  id bigint NOT NULL AUTO_INCREMENT,
+  accessibility_mode bit(1) NOT NULL,
+  birthdate varchar(255) DEFAULT NULL,
+  dark_mode bit(1) NOT NULL,
+  email varchar(255) NOT NULL,
+  password varchar(255) NOT NULL,
+  preferred_currency varchar(255) NOT NULL,
+  profile_photo_url varchar(1000) DEFAULT NULL,
+  username varchar(255) NOT NULL,
+  PRIMARY KEY (id),
+  UNIQUE KEY UK6dotkott2kjsp8vw4d0m25fb7 (email),
+  UNIQUE KEY UKr43af9ap4edm43mmtq01oddj6 (username)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS roles (
+  id bigint NOT NULL AUTO_INCREMENT,
+  name enum('ROLE_ADMIN','ROLE_USER') DEFAULT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS user_roles (
+  user_id bigint NOT NULL,
+  role_id bigint NOT NULL,
+  PRIMARY KEY (user_id, role_id),
+  KEY FKh8ciramu9cc9q3qcqiv4ue8a6 (role_id),
+  CONSTRAINT FKh8ciramu9cc9q3qcqiv4ue8a6 FOREIGN KEY (role_id) REFERENCES roles (id),
+  CONSTRAINT FKhfh9dx7w3ubf1co1vdev94g3f FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS category (
+  id bigint NOT NULL AUTO_INCREMENT,
+  description varchar(500) DEFAULT NULL,
+  icon varchar(255) DEFAULT NULL,
+  name varchar(255) NOT NULL,
+  PRIMARY KEY (id),
+  UNIQUE KEY UK46ccwnsi9409t36lurvtyljak (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS expense (
+  id bigint NOT NULL AUTO_INCREMENT,
+  amount decimal(38,2) DEFAULT NULL,
+  category varchar(255) DEFAULT NULL,
+  date date DEFAULT NULL,
+  description varchar(255) DEFAULT NULL,
+  expense_type varchar(255) DEFAULT NULL,
+  is_pinned bit(1) NOT NULL,
+  payment_method varchar(255) DEFAULT NULL,
+  title varchar(255) DEFAULT NULL,
+  user_id bigint NOT NULL,
+  PRIMARY KEY (id),
+  KEY FKekyts7i8w5cam119wj1itdom2 (user_id),
+  CONSTRAINT FKekyts7i8w5cam119wj1itdom2 FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS budget (
+  id bigint NOT NULL AUTO_INCREMENT,
+  category varchar(255) DEFAULT NULL,
+  end_date date DEFAULT NULL,
+  limit_amount decimal(38,2) DEFAULT NULL,
+  spent_amount decimal(38,2) DEFAULT NULL,
+  start_date date DEFAULT NULL,
+  user_id bigint NOT NULL,
+  PRIMARY KEY (id),
+  KEY FK5hquwcop4uwka537brlrxifl3 (user_id),
+  CONSTRAINT FK5hquwcop4uwka537brlrxifl3 FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS notification (
+  id bigint NOT NULL AUTO_INCREMENT,
+  created_at datetime(6) DEFAULT NULL,
+  dedupe_key varchar(64) DEFAULT NULL,
+  is_read bit(1) NOT NULL,
+  message varchar(255) DEFAULT NULL,
+  user_id bigint NOT NULL,
+  PRIMARY KEY (id),
+  KEY FKnk4ftb5am9ubmkv1661h15ds9 (user_id),
+  CONSTRAINT FKnk4ftb5am9ubmkv1661h15ds9 FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS recurring_bill (
+  id bigint NOT NULL AUTO_INCREMENT,
+  amount decimal(38,2) DEFAULT NULL,
+  bill_name varchar(255) DEFAULT NULL,
+  category varchar(255) DEFAULT NULL,
+  day_of_month_due int NOT NULL,
+  description varchar(255) DEFAULT NULL,
+  frequency varchar(255) DEFAULT NULL,
+  is_paid bit(1) DEFAULT NULL,
+  name varchar(255) DEFAULT NULL,
+  next_due_date date DEFAULT NULL,
+  next_reminder_at datetime(6) DEFAULT NULL,
+  paid_date date DEFAULT NULL,
+  reminder_days_before int DEFAULT NULL,
+  reminder_hour int DEFAULT NULL,
+  reminder_minute int DEFAULT NULL,
+  user_id bigint NOT NULL,
+  PRIMARY KEY (id),
+  KEY FK3l3d1imlc9vfr445qad7rbs2c (user_id),
+  CONSTRAINT FK3l3d1imlc9vfr445qad7rbs2c FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Columns added to existing tables after the original schema
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'budget' AND column_name = 'spent_amount') = 0,
+               'ALTER TABLE budget ADD COLUMN spent_amount decimal(38,2) DEFAULT NULL',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'notification' AND column_name = 'dedupe_key') = 0,
+               'ALTER TABLE notification ADD COLUMN dedupe_key varchar(64) DEFAULT NULL',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recurring_bill' AND column_name = 'next_reminder_at') = 0,
+               'ALTER TABLE recurring_bill ADD COLUMN next_reminder_at datetime(6) DEFAULT NULL',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
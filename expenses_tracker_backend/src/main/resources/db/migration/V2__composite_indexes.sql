@@ -0,0 +1,58 @@
+-- Composite indexes for the hot query shapes.
+-- Some of these were previously created by ddl-auto from @Table(indexes = ...), so each index is only
+-- created when an index of that name doesn't exist yet (MySQL has no CREATE INDEX IF NOT EXISTS).
+
+-- Per-user listing and keyset pagination by date (findByUserIdOrderByDateDesc, findPageByUserIdAfter,
+-- sumAmountByDaySince / sumAmountByMonthSince). Also serves (user_id, date) lookups.
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'expense' AND index_name = 'idx_expense_user_date_id') = 0,
+               'CREATE INDEX idx_expense_user_date_id ON expense (user_id, date, id)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Spending per budget: calculateTotalSpendingByUserAndCategory and the spent-amount recalculation subqueries
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'expense' AND index_name = 'idx_expense_user_category_date') = 0,
+               'CREATE INDEX idx_expense_user_category_date ON expense (user_id, category, date)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Unread notifications newest first and the unread count
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'notification' AND index_name = 'idx_notification_user_read_created') = 0,
+               'CREATE INDEX idx_notification_user_read_created ON notification (user_id, is_read, created_at)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Rejects duplicate notifications (see NotificationService.createNotification)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'notification' AND index_name = 'uk_notification_dedupe_key') = 0,
+               'CREATE UNIQUE INDEX uk_notification_dedupe_key ON notification (dedupe_key)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Active budget lookups by user, category and date (findActiveBudgetByUserAndCategory, addToSpentAmount)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'budget' AND index_name = 'idx_budget_user_category_dates') = 0,
+               'CREATE INDEX idx_budget_user_category_dates ON budget (user_id, category, start_date, end_date)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Bill reminders due in a time window (findDueForReminder)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recurring_bill' AND index_name = 'idx_recurring_bill_next_reminder_at') = 0,
+               'CREATE INDEX idx_recurring_bill_next_reminder_at ON recurring_bill (next_reminder_at)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
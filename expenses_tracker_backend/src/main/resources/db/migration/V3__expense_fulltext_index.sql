@@ -0,0 +1,10 @@
+-- FULLTEXT index behind the ranked expense search (ExpenseRepository.searchByUserId).
+-- Earlier versions created it at startup, so only add it when missing.
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'expense' AND index_name = 'ft_expense_text') = 0,
+               'ALTER TABLE expense ADD FULLTEXT INDEX ft_expense_text (title, description, category)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,39 @@
+-- Entity ids come from pooled sequences (allocationSize 50) instead of AUTO_INCREMENT, so Hibernate
+-- can batch inserts. MySQL has no sequences; Hibernate keeps each one as a single-row table.
+-- The pooled optimizer hands out (next_val - 49) .. next_val for each value it reads, so every table
+-- is seeded 51 above its current highest id. The AUTO_INCREMENT columns are left as they are.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO users_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM users
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+
+CREATE TABLE IF NOT EXISTS roles_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO roles_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM roles
+WHERE NOT EXISTS (SELECT 1 FROM roles_seq);
+
+CREATE TABLE IF NOT EXISTS category_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO category_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM category
+WHERE NOT EXISTS (SELECT 1 FROM category_seq);
+
+CREATE TABLE IF NOT EXISTS expense_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO expense_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM expense
+WHERE NOT EXISTS (SELECT 1 FROM expense_seq);
+
+CREATE TABLE IF NOT EXISTS budget_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO budget_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM budget
+WHERE NOT EXISTS (SELECT 1 FROM budget_seq);
+
+CREATE TABLE IF NOT EXISTS notification_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO notification_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM notification
+WHERE NOT EXISTS (SELECT 1 FROM notification_seq);
+
+CREATE TABLE IF NOT EXISTS recurring_bill_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO recurring_bill_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM recurring_bill
+WHERE NOT EXISTS (SELECT 1 FROM recurring_bill_seq);
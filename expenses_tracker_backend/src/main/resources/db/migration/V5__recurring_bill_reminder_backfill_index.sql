@@ -0,0 +1,19 @@
+-- Bills without a reminder time yet (findByNextReminderAtIsNullAndNextDueDateIsNotNull, run at startup
+-- to backfill next_reminder_at). Extends the reminder-window index with next_due_date so both predicates
+-- are answered from the index; findDueForReminder still uses its next_reminder_at prefix, so the
+-- single-column index is dropped once the wider one exists.
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recurring_bill' AND index_name = 'idx_recurring_bill_next_reminder_due') = 0,
+               'CREATE INDEX idx_recurring_bill_next_reminder_due ON recurring_bill (next_reminder_at, next_due_date)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recurring_bill' AND index_name = 'idx_recurring_bill_next_reminder_at') > 0,
+               'DROP INDEX idx_recurring_bill_next_reminder_at ON recurring_bill',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
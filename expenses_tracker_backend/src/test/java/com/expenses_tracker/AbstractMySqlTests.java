@@ -0,0 +1,25 @@
+package com.expenses_tracker;
+
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base for tests against a real, Flyway-migrated MySQL. One container is started for the whole
+ * run and shared by every subclass. With one test instance per class, a subclass seeds its data
+ * in a non-static @BeforeAll method using its injected beans. Needs Docker; skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class AbstractMySqlTests {
+
+	// Started here rather than by @Container: with one instance per class, Spring builds the
+	// context before JUnit's class-level callbacks would start it
+	@ServiceConnection
+	protected static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	static {
+		mysql.start();
+	}
+}
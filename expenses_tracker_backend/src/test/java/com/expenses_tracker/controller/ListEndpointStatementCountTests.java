@@ -0,0 +1,160 @@
+package com.expenses_tracker.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.expenses_tracker.AbstractMySqlTests;
+import com.expenses_tracker.entity.Category;
+import com.expenses_tracker.entity.ERole;
+import com.expenses_tracker.entity.User;
+import com.expenses_tracker.repository.CategoryRepository;
+import com.expenses_tracker.repository.RoleRepository;
+import com.expenses_tracker.repository.UserRepository;
+import com.expenses_tracker.security.CustomUserDetails;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the JDBC statements Hibernate prepares for each list endpoint. A list must cost a
+ * fixed number of queries however many rows it returns: no per-row or per-owner selects.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ListEndpointStatementCountTests extends AbstractMySqlTests {
+
+	private static final int EXPENSES = 500;
+	private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	private Long userId;
+
+	@BeforeAll
+	void seed() {
+		User user = new User("stats_user", "stats_user@example.com", "x");
+		user.getRoles().add(roleRepository.findByName(ERole.ROLE_USER).orElseThrow());
+		userId = userRepository.save(user).getId();
+
+		List<Object[]> expenses = new ArrayList<>();
+		for (int i = 0; i < EXPENSES; i++) {
+			expenses.add(new Object[]{BigDecimal.valueOf(100 + i), "Food", Date.valueOf(START.plusDays(i % 60)),
+				"Expense " + i, userId});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO expense (amount, category, date, title, expense_type, is_pinned, " +
+			"payment_method, user_id) VALUES (?, ?, ?, ?, 'PERSONAL', 0, 'Card', ?)", expenses);
+
+		List<Object[]> budgets = new ArrayList<>();
+		List<Object[]> bills = new ArrayList<>();
+		List<Object[]> notifications = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			budgets.add(new Object[]{"Category " + i, Date.valueOf(START), Date.valueOf(START.plusMonths(1)), userId});
+			bills.add(new Object[]{"Bill " + i, userId});
+			notifications.add(new Object[]{Timestamp.valueOf(START.atStartOfDay().plusHours(i)), "stats-" + i, userId});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO budget (category, start_date, end_date, limit_amount, spent_amount, user_id) " +
+			"VALUES (?, ?, ?, 1000, 0, ?)", budgets);
+		jdbcTemplate.batchUpdate("INSERT INTO recurring_bill (name, amount, frequency, day_of_month_due, next_due_date, " +
+			"is_paid, user_id) VALUES (?, 10, 'MONTHLY', 1, '2025-01-01', 0, ?)", bills);
+		jdbcTemplate.batchUpdate("INSERT INTO notification (created_at, is_read, message, dedupe_key, user_id) " +
+			"VALUES (?, 0, 'Reminder', ?, ?)", notifications);
+	}
+
+	@Test
+	void expenseListIsOneQuery() throws Exception {
+		assertEquals(1, statementsFor("/api/expenses"));
+		assertEquals(1, statementsFor("/api/expenses/page?size=100"));
+	}
+
+	@Test
+	void currentUserComesFromThePrincipalAndTheUserCache() throws Exception {
+		statementsFor("/api/auth/me");
+		assertEquals(0, statementsFor("/api/auth/me"));
+		assertEquals(0, statementsFor("/api/users/" + userId + "/preferences"));
+
+		User user = userRepository.findById(userId).orElseThrow();
+		user.setPreferredCurrency("EUR");
+		userRepository.save(user);
+		assertEquals(1, statementsFor("/api/users/" + userId + "/preferences"));
+		assertEquals(0, statementsFor("/api/users/" + userId + "/preferences"));
+	}
+
+	@Test
+	void unreadCountIsCountedOnceAndRevalidatedWithItsETag() throws Exception {
+		String url = "/api/notifications/" + userId + "/unread-count";
+		statementsFor(url);
+		assertEquals(0, statementsFor(url));
+
+		String eTag = mockMvc.perform(get(url).with(user(principal())))
+			.andExpect(jsonPath("$.count").value(20))
+			.andReturn().getResponse().getHeader("ETag");
+		mockMvc.perform(get(url).header("If-None-Match", eTag).with(user(principal())))
+			.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void ownerIsNotLoadedWithTheRows() throws Exception {
+		assertEquals(1, statementsFor("/api/budgets/user/" + userId));
+		assertEquals(1, statementsFor("/api/recurring-bills/user/" + userId));
+		assertEquals(1, statementsFor("/api/notifications/" + userId));
+	}
+
+	@Test
+	void categoriesComeFromTheSecondLevelCacheUntilOneIsWritten() throws Exception {
+		statementsFor("/api/categories");
+		assertEquals(0, statementsFor("/api/categories"));
+
+		Category category = new Category();
+		category.setName("Statement count test");
+		categoryRepository.save(category);
+		assertEquals(1, statementsFor("/api/categories"));
+		assertEquals(0, statementsFor("/api/categories"));
+	}
+
+	private long statementsFor(String url) throws Exception {
+		CustomUserDetails principal = principal();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		mockMvc.perform(get(url).with(user(principal))).andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private CustomUserDetails principal() {
+		return new CustomUserDetails(userRepository.findByUsername("stats_user").orElseThrow());
+	}
+}
@@ -0,0 +1,204 @@
+package com.expenses_tracker.controller;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.expenses_tracker.ExpensesTrackerApplication;
+
+/**
+ * Prints throughput and p50/p99 latency of the expense list and a streamed CSV report with
+ * requests on platform threads (the default) and on virtual threads (the virtual-threads
+ * profile). Each mode starts the application against the same MySQL container with the same
+ * connection pool and is driven by more concurrent clients than Tomcat has platform threads.
+ * It asserts nothing; no results are checked in, so compare the rows of one run on one machine.
+ * The virtual-thread run needs Java 21. Needs Docker and only runs with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class ThreadModelLoadBenchmarkTests {
+
+	@Container
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	private static final int CLIENTS = 400;
+	private static final int EXPENSES = 500;
+	private static final Duration WARM_UP = Duration.ofSeconds(10);
+	private static final Duration MEASURE = Duration.ofSeconds(30);
+	// A client that got an error waits this long before its next request instead of spinning
+	private static final Duration ERROR_BACKOFF = Duration.ofMillis(100);
+	private static final String PASSWORD = "load-test-password";
+
+	private boolean seeded;
+
+	@Test
+	void throughputAndP99ByThreadModel() throws Exception {
+		System.out.printf("%-16s %-12s %10s %10s %10s %10s%n", "mode", "endpoint", "req/sec", "p50 ms", "p99 ms", "errors");
+		run("platform");
+		if (Runtime.version().feature() >= 21) {
+			run("virtual", "virtual-threads");
+		} else {
+			System.out.println("virtual          skipped, needs Java 21 (running on " + Runtime.version() + ")");
+		}
+	}
+
+	private void run(String mode, String... profiles) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpensesTrackerApplication.class)
+				.profiles(profiles)
+				.properties(
+					"server.port=0",
+					"management.server.port=0",
+					"spring.datasource.url=" + mysql.getJdbcUrl(),
+					"spring.datasource.username=" + mysql.getUsername(),
+					"spring.datasource.password=" + mysql.getPassword(),
+					"spring.jpa.show-sql=false",
+					"logging.level.org.springframework.security=WARN")
+				.run()) {
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.build();
+			Long userId = seed(context, client, baseUrl);
+			String cookie = login(client, baseUrl);
+
+			report(mode, "expenses", load(client, URI.create(baseUrl + "/api/expenses"), cookie));
+			report(mode, "csv report", load(client, URI.create(baseUrl + "/api/reports/user/" + userId + "?format=csv"), cookie));
+		}
+	}
+
+	private Long seed(ConfigurableApplicationContext context, HttpClient client, String baseUrl) throws Exception {
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		if (!seeded) {
+			seeded = true;
+			post(client, baseUrl + "/api/auth/register",
+				"{\"username\":\"load_user\",\"email\":\"load_user@example.com\",\"password\":\"" + PASSWORD + "\"}");
+			Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'load_user'", Long.class);
+
+			LocalDate start = LocalDate.of(2024, 1, 1);
+			List<Object[]> expenses = new ArrayList<>();
+			for (int i = 0; i < EXPENSES; i++) {
+				expenses.add(new Object[]{BigDecimal.valueOf(100 + i), "Food", Date.valueOf(start.plusDays(i % 60)),
+					"Expense " + i, userId});
+			}
+			jdbcTemplate.batchUpdate("INSERT INTO expense (amount, category, date, title, expense_type, is_pinned, " +
+				"payment_method, user_id) VALUES (?, ?, ?, ?, 'PERSONAL', 0, 'Card', ?)", expenses);
+		}
+		return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'load_user'", Long.class);
+	}
+
+	private String login(HttpClient client, String baseUrl) throws Exception {
+		HttpResponse<String> response = post(client, baseUrl + "/api/auth/login",
+			"{\"username\":\"load_user\",\"password\":\"" + PASSWORD + "\"}");
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+		}
+		return response.headers().allValues("Set-Cookie").stream()
+			.filter(header -> header.startsWith("JSESSIONID="))
+			.map(header -> header.substring(0, header.indexOf(';')))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private static HttpResponse<String> post(HttpClient client, String url, String json) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(json))
+			.build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	/**
+	 * Drive the URL from CLIENTS concurrent clients, each sending its next request as soon as
+	 * the previous one completes; latencies of the warm-up period are discarded
+	 */
+	private static Result load(HttpClient client, URI uri, String cookie) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri).header("Cookie", cookie).timeout(Duration.ofSeconds(60)).GET().build();
+		long measureFrom = System.nanoTime() + WARM_UP.toNanos();
+		long end = measureFrom + MEASURE.toNanos();
+		AtomicLong errors = new AtomicLong();
+
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		List<Future<long[]>> futures = new ArrayList<>();
+		for (int i = 0; i < CLIENTS; i++) {
+			futures.add(clients.submit(() -> {
+				long[] latencies = new long[1024];
+				int count = 0;
+				while (System.nanoTime() < end) {
+					long start = System.nanoTime();
+					try {
+						HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+						if (response.statusCode() != 200) {
+							errors.incrementAndGet();
+							Thread.sleep(ERROR_BACKOFF.toMillis());
+							continue;
+						}
+					} catch (InterruptedException e) {
+						throw e;
+					} catch (Exception e) {
+						errors.incrementAndGet();
+						Thread.sleep(ERROR_BACKOFF.toMillis());
+						continue;
+					}
+					if (start >= measureFrom) {
+						if (count == latencies.length) {
+							latencies = Arrays.copyOf(latencies, count * 2);
+						}
+						latencies[count++] = System.nanoTime() - start;
+					}
+				}
+				return Arrays.copyOf(latencies, count);
+			}));
+		}
+		long[] all = new long[0];
+		for (Future<long[]> future : futures) {
+			long[] latencies = future.get();
+			int offset = all.length;
+			all = Arrays.copyOf(all, offset + latencies.length);
+			System.arraycopy(latencies, 0, all, offset, latencies.length);
+		}
+		clients.shutdown();
+		clients.awaitTermination(1, TimeUnit.MINUTES);
+		Arrays.sort(all);
+		return new Result(all, errors.get());
+	}
+
+	private static void report(String mode, String endpoint, Result result) {
+		System.out.printf("%-16s %-12s %10.1f %10.1f %10.1f %10d%n", mode, endpoint,
+			result.latencies.length / (double) MEASURE.toSeconds(), result.percentileMs(0.50), result.percentileMs(0.99),
+			result.errors);
+	}
+
+	private record Result(long[] latencies, long errors) {
+
+		double percentileMs(double percentile) {
+			if (latencies.length == 0) {
+				return Double.NaN;
+			}
+			int index = (int) Math.ceil(percentile * latencies.length) - 1;
+			return latencies[Math.max(0, index)] / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.expenses_tracker.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ExpenseCursorTests {
+
+	@Test
+	void decodesWhatItEncodes() {
+		ExpenseCursor cursor = ExpenseCursor.decode(new ExpenseCursor(LocalDate.of(2024, 3, 1), 42L).encode());
+
+		assertEquals(LocalDate.of(2024, 3, 1), cursor.getDate());
+		assertEquals(42L, cursor.getId());
+	}
+
+	@Test
+	void malformedTokenIsABadRequestWithItsCause() {
+		for (String token : new String[]{"not base64!", "bm8tc2VwYXJhdG9y", "MjAyNC0xMy0wMTox"}) {
+			ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> ExpenseCursor.decode(token));
+			assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+			assertNotNull(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.expenses_tracker.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class MoneyTests {
+
+	@Test
+	void convertsDecimalsToMinorUnitsAndBack() {
+		assertEquals(123450, Money.of(new BigDecimal("1234.50")).getMinorUnits());
+		assertEquals(13, Money.of(new BigDecimal("0.125")).getMinorUnits());
+		assertEquals(new BigDecimal("1234.50"), Money.ofMinor(123450).toBigDecimal());
+		assertEquals("-0.05", Money.ofMinor(-5).toString());
+	}
+
+	@Test
+	void arithmeticThrowsInsteadOfOverflowing() {
+		Money max = Money.ofMinor(Long.MAX_VALUE);
+
+		assertEquals(Money.ofMinor(300), Money.ofMinor(100).plus(Money.ofMinor(200)));
+		assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+		assertThrows(ArithmeticException.class, () -> max.times(2));
+		assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+	}
+
+	@Test
+	void converterKeepsNullsAndTheColumnScale() {
+		MoneyConverter converter = new MoneyConverter();
+
+		assertEquals(new BigDecimal("50000.00"), converter.convertToDatabaseColumn(Money.ofMinor(5_000_000)));
+		assertEquals(Money.ofMinor(999), converter.convertToEntityAttribute(new BigDecimal("9.99")));
+		assertNull(converter.convertToDatabaseColumn(null));
+		assertNull(converter.convertToEntityAttribute(null));
+	}
+
+	@Test
+	void serializesAsAPlainNumber() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		assertEquals("1234.50", objectMapper.writeValueAsString(Money.ofMinor(123450)));
+		assertEquals(Money.ofMinor(50000), objectMapper.readValue("500", Money.class));
+		assertEquals(Money.ofMinor(1999), objectMapper.readValue("\"19.99\"", Money.class));
+	}
+}
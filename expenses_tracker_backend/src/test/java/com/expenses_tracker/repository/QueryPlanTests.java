@@ -0,0 +1,378 @@
+package com.expenses_tracker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.expenses_tracker.AbstractMySqlTests;
+import com.expenses_tracker.entity.ERole;
+import com.expenses_tracker.entity.Expense;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Calls every repository query against a migrated MySQL, records the SQL and bind values Hibernate
+ * sends to the driver, and runs EXPLAIN on each statement. Fails if any of them scans a whole table
+ * or index, apart from the reads listed in READS_EVERY_ROW.
+ */
+@SpringBootTest
+class QueryPlanTests extends AbstractMySqlTests {
+
+	private static final int USERS = 40;
+	private static final int EXPENSES_PER_USER = 250;
+	private static final String[] CATEGORIES = {"Food", "Travel", "Shopping", "Bills", "Health", "Entertainment"};
+	private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+	// Small lookup tables behind the second-level cache; the optimizer may read them whole, which costs nothing
+	private static final Set<String> LOOKUP_TABLES = Set.of("roles", "category");
+
+	// Unscoped admin/filter queries and the nightly recalculation read every row of these tables by design
+	private static final Map<String, Set<String>> READS_EVERY_ROW = Map.of(
+		"ExpenseRepository.findByExpenseTypeIgnoreCase", Set.of("expense"),
+		"ExpenseRepository.findByCategoryIgnoreCase", Set.of("expense"),
+		"ExpenseRepository.findByPaymentMethodIgnoreCase", Set.of("expense"),
+		"ExpenseRepository.findByDateBetween", Set.of("expense"),
+		"ExpenseRepository.findByExpenseTypeIgnoreCaseAndCategoryIgnoreCase", Set.of("expense"),
+		"ExpenseRepository.findAllByOrderByDateDesc", Set.of("expense"),
+		"BudgetRepository.recalculateAllSpentAmounts", Set.of("budget"),
+		"RecurringBillRepository.findByDayOfMonthDue", Set.of("recurring_bill"));
+
+	private static final Set<String> FULL_SCAN_TYPES = Set.of("ALL", "index");
+
+	// Table references in generated SQL: "from expense e1_0", "join roles r1_1", "update budget b1_0"
+	private static final Pattern TABLE_REFERENCE = Pattern.compile("(?i)\\b(?:from|join|update)\\s+(\\w+)(?:\\s+(?:as\\s+)?(\\w+))?");
+	private static final Set<String> SQL_KEYWORDS = Set.of("where", "set", "join", "left", "right", "inner", "cross",
+		"on", "order", "group", "limit", "for", "having", "union");
+
+	// Statements prepared on the calling thread while a capture is open; other threads are never recorded
+	private static final ThreadLocal<List<CapturedStatement>> CAPTURE = new ThreadLocal<>();
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private RecurringBillRepository recurringBillRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private long userId;
+
+	@BeforeAll
+	void seed() {
+		List<Object[]> users = new ArrayList<>();
+		for (int u = 0; u < USERS; u++) {
+			users.add(new Object[]{"plan_user_" + u + "@example.com", "plan_user_" + u});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO users (accessibility_mode, dark_mode, email, password, preferred_currency, username) " +
+			"VALUES (0, 0, ?, 'x', 'INR', ?)", users);
+		List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE username LIKE 'plan_user_%'", Long.class);
+		userId = userIds.get(userIds.size() / 2);
+
+		List<Object[]> expenses = new ArrayList<>();
+		List<Object[]> budgets = new ArrayList<>();
+		List<Object[]> notifications = new ArrayList<>();
+		List<Object[]> bills = new ArrayList<>();
+		for (long id : userIds) {
+			for (int i = 0; i < EXPENSES_PER_USER; i++) {
+				expenses.add(new Object[]{BigDecimal.valueOf(100 + i), CATEGORIES[i % CATEGORIES.length],
+					Date.valueOf(START.plusDays(i)), "Expense " + i, "Lunch with team " + i, id});
+			}
+			for (int c = 0; c < CATEGORIES.length; c++) {
+				budgets.add(new Object[]{CATEGORIES[c], Date.valueOf(START.plusMonths(c)),
+					Date.valueOf(START.plusMonths(c + 1)), id});
+			}
+			for (int n = 0; n < 100; n++) {
+				notifications.add(new Object[]{Timestamp.valueOf(START.atStartOfDay().plusHours(n)), n % 2,
+					"plan-" + id + "-" + n, id});
+			}
+			for (int b = 0; b < 5; b++) {
+				// One bill per user still waits for its reminder time to be backfilled
+				Timestamp reminderAt = b == 0 ? null : Timestamp.valueOf(START.atStartOfDay().plusDays(id * 5 + b));
+				bills.add(new Object[]{"Bill " + b, reminderAt, id});
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO expense (amount, category, date, title, description, expense_type, is_pinned, " +
+			"payment_method, user_id) VALUES (?, ?, ?, ?, ?, 'PERSONAL', 0, 'Card', ?)", expenses);
+		jdbcTemplate.batchUpdate("INSERT INTO budget (category, start_date, end_date, limit_amount, spent_amount, user_id) " +
+			"VALUES (?, ?, ?, 1000, 0, ?)", budgets);
+		jdbcTemplate.batchUpdate("INSERT INTO notification (created_at, is_read, message, dedupe_key, user_id) " +
+			"VALUES (?, ?, 'Reminder', ?, ?)", notifications);
+		jdbcTemplate.batchUpdate("INSERT INTO recurring_bill (name, amount, frequency, day_of_month_due, next_due_date, " +
+			"next_reminder_at, is_paid, user_id) VALUES (?, 10, 'MONTHLY', 1, '2025-01-01', ?, 0, ?)", bills);
+
+		jdbcTemplate.execute("ANALYZE TABLE users, expense, budget, notification, recurring_bill");
+	}
+
+	@Test
+	void migrationsApplied() {
+		Integer applied = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM flyway_schema_history WHERE success = 1 AND version IS NOT NULL", Integer.class);
+		assertEquals(5, applied);
+	}
+
+	@Test
+	void noRepositoryQueryScansAWholeTable() {
+		LocalDate date = START.plusDays(100);
+		LocalDateTime time = START.atStartOfDay().plusDays(userId * 5);
+
+		Map<String, Runnable> queries = new LinkedHashMap<>();
+		// ExpenseRepository
+		queries.put("ExpenseRepository.findByUserId", () -> expenseRepository.findByUserId(userId));
+		queries.put("ExpenseRepository.streamByUserId", () -> {
+			try (Stream<Expense> expenses = expenseRepository.streamByUserId(userId)) {
+				expenses.count();
+			}
+		});
+		queries.put("ExpenseRepository.findSummariesByUserId", () -> expenseRepository.findSummariesByUserId(userId));
+		queries.put("ExpenseRepository.findFirstPageByUserId", () -> expenseRepository.findFirstPageByUserId(userId, Limit.of(51)));
+		queries.put("ExpenseRepository.findPageByUserIdAfter",
+			() -> expenseRepository.findPageByUserIdAfter(userId, date, Long.MAX_VALUE, Limit.of(51)));
+		queries.put("ExpenseRepository.searchByUserId",
+			() -> expenseRepository.searchByUserId(userId, "+lunch*", PageRequest.of(0, 20)));
+		queries.put("ExpenseRepository.searchByUserIdContaining",
+			() -> expenseRepository.searchByUserIdContaining(userId, "lunch", PageRequest.of(0, 20)));
+		queries.put("ExpenseRepository.sumAmountByExpenseType", () -> expenseRepository.sumAmountByExpenseType(userId));
+		queries.put("ExpenseRepository.sumAmountByCategory", () -> expenseRepository.sumAmountByCategory(userId));
+		queries.put("ExpenseRepository.sumAmountByDaySince", () -> expenseRepository.sumAmountByDaySince(userId, date));
+		queries.put("ExpenseRepository.sumAmountByMonthSince", () -> expenseRepository.sumAmountByMonthSince(userId, date));
+		queries.put("ExpenseRepository.sumAmountByYear", () -> expenseRepository.sumAmountByYear(userId));
+		queries.put("ExpenseRepository.findByExpenseTypeIgnoreCase", () -> expenseRepository.findByExpenseTypeIgnoreCase("personal"));
+		queries.put("ExpenseRepository.findByCategoryIgnoreCase", () -> expenseRepository.findByCategoryIgnoreCase("food"));
+		queries.put("ExpenseRepository.findByPaymentMethodIgnoreCase", () -> expenseRepository.findByPaymentMethodIgnoreCase("card"));
+		queries.put("ExpenseRepository.findByDateBetween", () -> expenseRepository.findByDateBetween(START, date));
+		queries.put("ExpenseRepository.findByExpenseTypeIgnoreCaseAndCategoryIgnoreCase",
+			() -> expenseRepository.findByExpenseTypeIgnoreCaseAndCategoryIgnoreCase("personal", "food"));
+		queries.put("ExpenseRepository.findAllByOrderByDateDesc", () -> expenseRepository.findAllByOrderByDateDesc());
+		// BudgetRepository
+		queries.put("BudgetRepository.findByUserId", () -> budgetRepository.findByUserId(userId));
+		queries.put("BudgetRepository.findActiveBudgetByUserAndCategory",
+			() -> budgetRepository.findActiveBudgetByUserAndCategory(userId, "Food", date));
+		queries.put("BudgetRepository.findActiveBudgetsByUserId", () -> budgetRepository.findActiveBudgetsByUserId(userId, date));
+		queries.put("BudgetRepository.calculateTotalSpendingByUserAndCategory",
+			() -> budgetRepository.calculateTotalSpendingByUserAndCategory(userId, "Food", START, date));
+		queries.put("BudgetRepository.addToSpentAmount", () -> budgetRepository.addToSpentAmount(userId, "Food", date, BigDecimal.ONE));
+		queries.put("BudgetRepository.recalculateSpentAmountsByUserId", () -> budgetRepository.recalculateSpentAmountsByUserId(userId));
+		queries.put("BudgetRepository.recalculateAllSpentAmounts", () -> budgetRepository.recalculateAllSpentAmounts());
+		// NotificationRepository
+		queries.put("NotificationRepository.findByUserIdOrderByCreatedAtDesc",
+			() -> notificationRepository.findByUserIdOrderByCreatedAtDesc(userId));
+		queries.put("NotificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc",
+			() -> notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId));
+		queries.put("NotificationRepository.findByUserIdAndIsReadTrueOrderByCreatedAtDesc",
+			() -> notificationRepository.findByUserIdAndIsReadTrueOrderByCreatedAtDesc(userId));
+		queries.put("NotificationRepository.countByUserIdAndIsReadFalse", () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
+		queries.put("NotificationRepository.existsByDedupeKey", () -> notificationRepository.existsByDedupeKey("plan-" + userId + "-1"));
+		queries.put("NotificationRepository.markAllAsReadByUserId", () -> notificationRepository.markAllAsReadByUserId(userId));
+		queries.put("NotificationRepository.deleteAllByUserId", () -> notificationRepository.deleteAllByUserId(userId));
+		// RecurringBillRepository
+		queries.put("RecurringBillRepository.findByUserId", () -> recurringBillRepository.findByUserId(userId));
+		queries.put("RecurringBillRepository.findDueForReminder",
+			() -> recurringBillRepository.findDueForReminder(time, time.plusMinutes(1)));
+		queries.put("RecurringBillRepository.findByNextReminderAtIsNullAndNextDueDateIsNotNull",
+			() -> recurringBillRepository.findByNextReminderAtIsNullAndNextDueDateIsNotNull());
+		queries.put("RecurringBillRepository.findByDayOfMonthDue", () -> recurringBillRepository.findByDayOfMonthDue(1));
+		// CategoryRepository, RoleRepository, UserRepository
+		queries.put("CategoryRepository.findAll", () -> categoryRepository.findAll());
+		queries.put("CategoryRepository.findByNameIgnoreCase", () -> categoryRepository.findByNameIgnoreCase("food"));
+		queries.put("CategoryRepository.existsByNameIgnoreCase", () -> categoryRepository.existsByNameIgnoreCase("food"));
+		queries.put("RoleRepository.findByName", () -> roleRepository.findByName(ERole.ROLE_USER));
+		queries.put("UserRepository.findByUsername", () -> userRepository.findByUsername("plan_user_1"));
+		queries.put("UserRepository.existsByUsername", () -> userRepository.existsByUsername("plan_user_1"));
+
+		List<String> fullScans = new ArrayList<>();
+		queries.forEach((query, call) -> {
+			List<CapturedStatement> statements = capture(call);
+			assertFalse(statements.isEmpty(), "No SQL captured for " + query);
+			Set<String> readsEveryRow = READS_EVERY_ROW.getOrDefault(query, Set.of());
+			for (CapturedStatement statement : statements) {
+				Map<String, String> tables = tablesByAlias(statement.sql());
+				for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.params())) {
+					Object alias = row.get("table");
+					if (alias == null || !FULL_SCAN_TYPES.contains(row.get("type"))) {
+						continue;
+					}
+					String table = tables.getOrDefault(alias.toString().toLowerCase(Locale.ROOT), alias.toString());
+					if (!LOOKUP_TABLES.contains(table) && !readsEveryRow.contains(table)) {
+						fullScans.add(query + ": " + row.get("type") + " on " + table + ": " + statement.sql());
+					}
+				}
+			}
+		});
+		assertTrue(fullScans.isEmpty(), "Full scans:\n" + String.join("\n", fullScans));
+	}
+
+	/**
+	 * Run a repository call in a transaction that is rolled back, with the query caches empty so it
+	 * reaches the database, and return the statements it prepared that EXPLAIN accepts
+	 */
+	private List<CapturedStatement> capture(Runnable call) {
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+		List<CapturedStatement> statements = new ArrayList<>();
+		CAPTURE.set(statements);
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				status.setRollbackOnly();
+				call.run();
+			});
+		} finally {
+			CAPTURE.remove();
+		}
+		return statements.stream()
+			.filter(statement -> statement.sql().trim().toLowerCase(Locale.ROOT).matches("^(select|update|delete|insert)\\b[\\s\\S]*"))
+			.toList();
+	}
+
+	private static Map<String, String> tablesByAlias(String sql) {
+		Map<String, String> tables = new HashMap<>();
+		Matcher matcher = TABLE_REFERENCE.matcher(sql);
+		while (matcher.find()) {
+			String table = matcher.group(1).toLowerCase(Locale.ROOT);
+			tables.put(table, table);
+			String alias = matcher.group(2);
+			if (alias != null && !SQL_KEYWORDS.contains(alias.toLowerCase(Locale.ROOT))) {
+				tables.put(alias.toLowerCase(Locale.ROOT), table);
+			}
+		}
+		return tables;
+	}
+
+	private record CapturedStatement(String sql, Map<Integer, Object> values) {
+
+		Object[] params() {
+			Object[] params = new Object[values.size()];
+			values.forEach((index, value) -> params[index - 1] = value);
+			return params;
+		}
+	}
+
+	@TestConfiguration
+	static class StatementCaptureConfig {
+
+		@Bean
+		static BeanPostProcessor capturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource && !(bean instanceof CapturingDataSource)
+						? new CapturingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Hands out connections that record each prepared statement's SQL and bind values while a
+	 * capture is open on the current thread
+	 */
+	static class CapturingDataSource extends DelegatingDataSource {
+
+		CapturingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return capturing(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return capturing(super.getConnection(username, password));
+		}
+
+		private static Connection capturing(Connection connection) {
+			return (Connection) Proxy.newProxyInstance(QueryPlanTests.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+					Object result = invoke(connection, method, args);
+					List<CapturedStatement> statements = CAPTURE.get();
+					if (statements == null || !method.getName().equals("prepareStatement")) {
+						return result;
+					}
+					CapturedStatement statement = new CapturedStatement((String) args[0], new TreeMap<>());
+					statements.add(statement);
+					return recording((PreparedStatement) result, statement.values());
+				});
+		}
+
+		private static PreparedStatement recording(PreparedStatement preparedStatement, Map<Integer, Object> values) {
+			return (PreparedStatement) Proxy.newProxyInstance(QueryPlanTests.class.getClassLoader(),
+				new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+					// setString(1, "x"), setObject(2, date, Types.DATE), setNull(3, Types.BIGINT), ...
+					if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+						values.put(index, method.getName().equals("setNull") ? null : args[1]);
+					}
+					return invoke(preparedStatement, method, args);
+				});
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.expenses_tracker.entity.Budget;
+import com.expenses_tracker.event.ExpenseChangedEvent;
+import com.expenses_tracker.repository.BudgetRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BudgetAlertPipelineTests {
+
+	private static final int CATEGORIES = 50;
+
+	private final BudgetAlertPipeline pipeline = new BudgetAlertPipeline();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final Set<String> evaluated = ConcurrentHashMap.newKeySet();
+	private final CountDownLatch firstEvaluation = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void start() {
+		// One budget per category, named after it
+		BudgetRepository budgetRepository = mock(BudgetRepository.class);
+		when(budgetRepository.findActiveBudgetByUserAndCategory(any(), any(), any())).thenAnswer(invocation -> {
+			String category = invocation.getArgument(1);
+			Budget budget = new Budget();
+			budget.setId((long) category.hashCode());
+			budget.setCategory(category);
+			return Optional.of(budget);
+		});
+		// Holds the worker in its first evaluation so the queue fills up behind it
+		BudgetAlertService budgetAlertService = new BudgetAlertService() {
+			@Override
+			public boolean evaluate(Budget budget) {
+				firstEvaluation.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				evaluated.add(budget.getCategory());
+				return false;
+			}
+		};
+
+		ReflectionTestUtils.setField(pipeline, "budgetRepository", budgetRepository);
+		ReflectionTestUtils.setField(pipeline, "budgetAlertService", budgetAlertService);
+		ReflectionTestUtils.setField(pipeline, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(pipeline, "queueCapacity", 2);
+		ReflectionTestUtils.setField(pipeline, "coalesceWindowMs", 0L);
+		ReflectionTestUtils.setField(pipeline, "maxBatchSize", 10);
+		ReflectionTestUtils.setField(pipeline, "logSamplesPerMinute", 1);
+		pipeline.start();
+	}
+
+	@AfterEach
+	void stop() {
+		release.countDown();
+		pipeline.stop();
+	}
+
+	@Test
+	void eventsThatOverflowTheQueueAreStillEvaluated() throws InterruptedException {
+		LocalDate date = LocalDate.of(2024, 1, 15);
+		pipeline.onExpenseChanged(new ExpenseChangedEvent(1L, "Category 0", date));
+		assertTrue(firstEvaluation.await(5, TimeUnit.SECONDS));
+
+		for (int i = 1; i < CATEGORIES; i++) {
+			pipeline.onExpenseChanged(new ExpenseChangedEvent(1L, "Category " + i, date));
+		}
+		release.countDown();
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (evaluated.size() < CATEGORIES && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertEquals(CATEGORIES, evaluated.size());
+		assertEquals(CATEGORIES - 3, meterRegistry.counter("budget.alerts.events.overflowed").count());
+	}
+}
@@ -0,0 +1,208 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.expenses_tracker.dto.ExpenseImportResult;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.User;
+import com.expenses_tracker.repository.BudgetRepository;
+import com.expenses_tracker.repository.ExpenseRepository;
+
+import jakarta.persistence.EntityManager;
+
+class ExpenseImportServiceTests {
+
+	private static final ExpenseImportService.Columns COLUMNS =
+		ExpenseImportService.Columns.fromHeader(List.of("Date", "Narration", "Withdrawal Amount", "Category"));
+
+	@Test
+	void mapsBankStatementColumns() {
+		Expense expense = COLUMNS.toExpense(List.of("05/01/2024", "Coffee shop", "₹1,234.50", ""));
+
+		assertEquals(LocalDate.of(2024, 1, 5), expense.getDate());
+		assertEquals(new BigDecimal("1234.50"), expense.getAmount());
+		assertEquals("Coffee shop", expense.getTitle());
+		assertEquals("Coffee shop", expense.getDescription());
+		assertEquals("Other", expense.getCategory());
+		assertEquals("PERSONAL", expense.getExpenseType());
+		assertNull(expense.getPaymentMethod());
+	}
+
+	@Test
+	void rejectsInvalidRows() {
+		assertEquals("Amount is missing",
+			assertThrows(IllegalArgumentException.class, () -> COLUMNS.toExpense(List.of("2024-01-05", "x", ""))).getMessage());
+		assertEquals("Amount must be greater than zero",
+			assertThrows(IllegalArgumentException.class, () -> COLUMNS.toExpense(List.of("2024-01-05", "x", "-10"))).getMessage());
+		assertEquals("Amount is not a number: 12abc",
+			assertThrows(IllegalArgumentException.class, () -> COLUMNS.toExpense(List.of("2024-01-05", "x", "12abc"))).getMessage());
+		assertEquals("Amount is not a number: Rs 1.000.50",
+			assertThrows(IllegalArgumentException.class, () -> COLUMNS.toExpense(List.of("2024-01-05", "x", "Rs 1.000.50"))).getMessage());
+		assertEquals("Date is not in a recognised format: 2024/13/45",
+			assertThrows(IllegalArgumentException.class, () -> COLUMNS.toExpense(List.of("2024/13/45", "x", "10"))).getMessage());
+	}
+
+	@Test
+	void stripsCurrencyMarkersFromAmounts() {
+		assertEquals(new BigDecimal("1000"), COLUMNS.toExpense(List.of("2024-01-05", "x", "Rs. 1,000")).getAmount());
+		assertEquals(new BigDecimal("2500.75"), COLUMNS.toExpense(List.of("2024-01-05", "x", "INR 2,500.75")).getAmount());
+		assertEquals(new BigDecimal("12.50"), COLUMNS.toExpense(List.of("2024-01-05", "x", "12.50 USD")).getAmount());
+	}
+
+	@Test
+	void reconcilesBudgetsAndReportsSavedRowsWhenReadingFailsPartWay() {
+		List<Long> reconciled = new ArrayList<>();
+		ExpenseImportService service = serviceWithChunksOfOne(reconciled);
+		byte[] csv = "Date,Title,Amount\n2024-01-05,Lunch,250\n2024-01-06,Taxi,90\n".getBytes(StandardCharsets.UTF_8);
+		// The upload connection drops once the rows above have been read
+		MockMultipartFile file = new MockMultipartFile("file", "statement.csv", "text/csv", csv) {
+			@Override
+			public InputStream getInputStream() {
+				InputStream rows = new ByteArrayInputStream(csv);
+				return new InputStream() {
+					@Override
+					public int read() throws IOException {
+						checkConnected();
+						return rows.read();
+					}
+
+					@Override
+					public int read(byte[] b, int off, int len) throws IOException {
+						checkConnected();
+						return rows.read(b, off, len);
+					}
+
+					@Override
+					public int available() throws IOException {
+						return rows.available();
+					}
+
+					private void checkConnected() throws IOException {
+						if (rows.available() == 0) {
+							throw new IOException("Connection reset");
+						}
+					}
+				};
+			}
+		};
+
+		ExpenseImportResult result = service.importExpenses(7L, file);
+
+		assertEquals(2, result.getImported());
+		assertNotNull(result.getError());
+		assertEquals(List.of(7L), reconciled);
+	}
+
+	@Test
+	void headerNeedsAmountAndDate() {
+		assertThrows(RuntimeException.class, () -> ExpenseImportService.Columns.fromHeader(List.of("Title", "Amount")));
+	}
+
+	@Test
+	void readsCsvRecords() throws Exception {
+		String csv = "Date,Title,Amount\n2024-01-05,\"Lunch, team\",250\n,,\n2024-01-06,Taxi,90\n";
+		List<String> rows = new ArrayList<>();
+
+		ExpenseImportReader.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+			(rowNumber, cells) -> rows.add(rowNumber + ":" + String.join("|", cells)));
+
+		assertEquals(List.of("1:Date|Title|Amount", "2:2024-01-05|Lunch, team|250", "4:2024-01-06|Taxi|90"), rows);
+	}
+
+	@Test
+	void readsXlsxRowsWithIsoDatesAndPlainNumbers(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("statement.xlsx");
+		try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+			CellStyle dateStyle = workbook.createCellStyle();
+			dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd-mmm-yy"));
+			CellStyle amountStyle = workbook.createCellStyle();
+			amountStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+
+			Sheet sheet = workbook.createSheet();
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("Date");
+			header.createCell(2).setCellValue("Amount");
+			Row row = sheet.createRow(2);
+			row.createCell(0).setCellValue(LocalDate.of(2024, 1, 5));
+			row.getCell(0).setCellStyle(dateStyle);
+			row.createCell(2).setCellValue(1234.5);
+			row.getCell(2).setCellStyle(amountStyle);
+			workbook.write(out);
+		}
+		List<String> rows = new ArrayList<>();
+
+		ExpenseImportReader.readXlsx(file.toFile(), (rowNumber, cells) -> rows.add(rowNumber + ":" + String.join("|", cells)));
+
+		assertEquals(List.of("1:Date||Amount", "3:2024-01-05||1234.5"), rows);
+	}
+
+	private static ExpenseImportService serviceWithChunksOfOne(List<Long> reconciled) {
+		ExpenseImportService service = new ExpenseImportService();
+		ReflectionTestUtils.setField(service, "expenseRepository", mock(ExpenseRepository.class));
+		ReflectionTestUtils.setField(service, "budgetRepository", mock(BudgetRepository.class));
+		ReflectionTestUtils.setField(service, "budgetSpendingService", new BudgetSpendingService() {
+			@Override
+			public int reconcileUser(Long userId) {
+				reconciled.add(userId);
+				return 0;
+			}
+		});
+		ReflectionTestUtils.setField(service, "budgetAlertService", new BudgetAlertService());
+		EntityManager entityManager = mock(EntityManager.class);
+		when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+		when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+		ReflectionTestUtils.setField(service, "entityManager", entityManager);
+		ReflectionTestUtils.setField(service, "transactionManager", new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+			}
+		});
+		ReflectionTestUtils.setField(service, "chunkSize", 1);
+		ReflectionTestUtils.setField(service, "batchSize", 100);
+		ReflectionTestUtils.setField(service, "maxErrors", 100);
+		service.init();
+		return service;
+	}
+}
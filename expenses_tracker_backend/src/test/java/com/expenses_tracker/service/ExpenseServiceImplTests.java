@@ -0,0 +1,21 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ExpenseServiceImplTests {
+
+	@Test
+	void fullTextQueryRequiresEveryWordAsAPrefix() {
+		assertEquals("+coffee* +sh*", ExpenseServiceImpl.toFullTextQuery("Coffee  sh"));
+		assertEquals("+uber* +eats*", ExpenseServiceImpl.toFullTextQuery("uber-eats"));
+	}
+
+	@Test
+	void fullTextQueryDropsBooleanOperators() {
+		assertEquals("+drop* +table*", ExpenseServiceImpl.toFullTextQuery(" +\"drop\" -table* "));
+		assertEquals("", ExpenseServiceImpl.toFullTextQuery("--- ()"));
+		assertEquals("", ExpenseServiceImpl.toFullTextQuery(null));
+	}
+}
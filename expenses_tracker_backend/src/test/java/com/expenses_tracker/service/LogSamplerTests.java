@@ -0,0 +1,32 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTests {
+
+	@Test
+	void letsThroughTheLimitThenSkips() {
+		LogSampler sampler = new LogSampler(2, Duration.ofHours(1));
+
+		assertEquals(0, sampler.sample());
+		assertEquals(0, sampler.sample());
+		assertEquals(-1, sampler.sample());
+		assertEquals(-1, sampler.sample());
+	}
+
+	@Test
+	void firstLineOfTheNextIntervalReportsTheSkippedCount() throws InterruptedException {
+		LogSampler sampler = new LogSampler(1, Duration.ofMillis(20));
+
+		assertEquals(0, sampler.sample());
+		assertEquals(-1, sampler.sample());
+		assertEquals(-1, sampler.sample());
+		Thread.sleep(30);
+		assertEquals(2, sampler.sample());
+		assertEquals(-1, sampler.sample());
+	}
+}
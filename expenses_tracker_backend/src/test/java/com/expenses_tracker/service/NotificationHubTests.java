@@ -0,0 +1,125 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InterruptedIOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationHubTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	// Emitters handed out by connect(), in order; a plain SseEmitter once these run out
+	private final Queue<SseEmitter> emitters = new ConcurrentLinkedQueue<>();
+
+	private final NotificationHub hub = new NotificationHub() {
+		@Override
+		SseEmitter newEmitter() {
+			SseEmitter emitter = emitters.poll();
+			return emitter != null ? emitter : super.newEmitter();
+		}
+	};
+
+	@BeforeEach
+	void start() {
+		ReflectionTestUtils.setField(hub, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(hub, "environment", new MockEnvironment());
+		ReflectionTestUtils.setField(hub, "timeoutMs", 60_000L);
+		ReflectionTestUtils.setField(hub, "heartbeatMs", 60_000L);
+		ReflectionTestUtils.setField(hub, "bufferSize", 4);
+		ReflectionTestUtils.setField(hub, "maxConnectionsPerUser", 2);
+		ReflectionTestUtils.setField(hub, "maxConnections", 3);
+		ReflectionTestUtils.setField(hub, "senderThreads", 2);
+		ReflectionTestUtils.setField(hub, "sendTimeoutMs", 1_000L);
+		hub.start();
+	}
+
+	@AfterEach
+	void stop() {
+		hub.stop();
+	}
+
+	@Test
+	void newStreamReplacesTheUsersOldestOnceAtTheLimit() {
+		hub.connect(1L);
+		hub.connect(1L);
+		hub.connect(1L);
+
+		assertEquals(2, hub.getConnectionCount());
+		assertTrue(hub.hasConnections(1L));
+		assertFalse(hub.hasConnections(2L));
+	}
+
+	@Test
+	void rejectsStreamsBeyondTheServerLimit() {
+		hub.connect(1L);
+		hub.connect(2L);
+		hub.connect(3L);
+
+		assertThrows(RejectedExecutionException.class, () -> hub.connect(4L));
+		assertEquals(3, hub.getConnectionCount());
+	}
+
+	@Test
+	void publishingToAUserWithoutStreamsIsANoOp() {
+		hub.publish(5L, NotificationHub.EVENT_UNREAD_COUNT, 1L);
+
+		assertEquals(0, hub.getConnectionCount());
+	}
+
+	@Test
+	void aStalledStreamDoesNotHoldUpOthersAndIsDroppedAfterTheSendTimeout() throws InterruptedException {
+		CountDownLatch stalled = new CountDownLatch(1);
+		CountDownLatch delivered = new CountDownLatch(1);
+		// A client that stopped reading: the write blocks until the sender is interrupted
+		emitters.add(new SseEmitter() {
+			@Override
+			public void send(SseEventBuilder builder) throws InterruptedIOException {
+				stalled.countDown();
+				try {
+					new CountDownLatch(1).await();
+				} catch (InterruptedException e) {
+					throw new InterruptedIOException();
+				}
+			}
+		});
+		emitters.add(new SseEmitter() {
+			@Override
+			public void send(SseEventBuilder builder) {
+				delivered.countDown();
+			}
+		});
+		hub.connect(1L);
+		hub.connect(2L);
+
+		hub.publish(1L, NotificationHub.EVENT_UNREAD_COUNT, 1L);
+		assertTrue(stalled.await(5, TimeUnit.SECONDS));
+		hub.publish(2L, NotificationHub.EVENT_UNREAD_COUNT, 1L);
+		// The second sender thread writes the other stream while the first is blocked
+		assertTrue(delivered.await(500, TimeUnit.MILLISECONDS));
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (hub.hasConnections(1L) && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertFalse(hub.hasConnections(1L));
+		assertTrue(hub.hasConnections(2L));
+		assertEquals(1, meterRegistry.counter("notifications.stream.send.timeouts").count());
+	}
+}
@@ -0,0 +1,111 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.expenses_tracker.dto.CategoryTotal;
+import com.expenses_tracker.entity.Expense;
+import com.expenses_tracker.entity.User;
+
+/**
+ * Pages per second and peak heap of the PDF report renderer by report size.
+ * The benchmark only runs with {@code mvn test -Pbenchmark}.
+ */
+class PdfReportRendererBenchmarkTests {
+
+	private static final int[] REPORT_SIZES = {1_000, 10_000, 50_000};
+
+	@Test
+	void rendersAPdfDocument() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int pages = new PdfReportRenderer(100).render(user(), totals(250), expenses(250), out);
+
+		String header = new String(out.toByteArray(), 0, 5, StandardCharsets.US_ASCII);
+		assertEquals("%PDF-", header);
+		assertTrue(pages > 1, "250 rows should span several pages");
+	}
+
+	@Test
+	@Tag("benchmark")
+	void pagesPerSecondAndPeakHeapByReportSize() throws IOException {
+		// Warm up class loading and the JIT before measuring
+		new PdfReportRenderer(100).render(user(), totals(2_000), expenses(2_000), OutputStream.nullOutputStream());
+
+		System.out.printf("%-10s %-12s %8s %10s %12s %14s%n", "rows", "mode", "pages", "ms", "pages/sec", "peak heap MB");
+		for (int rows : REPORT_SIZES) {
+			run(rows, "flush-100", new PdfReportRenderer(100));
+			// Never flushing keeps the whole table in memory until complete(), like a regular table
+			run(rows, "no-flush", new PdfReportRenderer(Integer.MAX_VALUE));
+		}
+	}
+
+	private void run(int rows, String mode, PdfReportRenderer renderer) throws IOException {
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP)
+			.toList();
+		System.gc();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+		long start = System.nanoTime();
+		int pages = renderer.render(user(), totals(rows), expenses(rows), OutputStream.nullOutputStream());
+		long elapsedNanos = System.nanoTime() - start;
+
+		long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		System.out.printf("%-10d %-12s %8d %10d %12.1f %14.1f%n", rows, mode, pages, elapsedNanos / 1_000_000,
+			pages / (elapsedNanos / 1e9), peakHeap / (1024.0 * 1024.0));
+		assertTrue(pages > 0);
+	}
+
+	private static User user() {
+		User user = new User("benchmark", "benchmark@example.com", "secret");
+		user.setId(1L);
+		return user;
+	}
+
+	private static List<CategoryTotal> totals(int rows) {
+		return List.of(new CategoryTotal("PERSONAL", BigDecimal.valueOf(rows * 125L, 2), (long) rows));
+	}
+
+	/**
+	 * Generates expenses lazily so the input itself doesn't count towards peak heap
+	 */
+	private static Iterator<Expense> expenses(int rows) {
+		return new Iterator<>() {
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < rows;
+			}
+
+			@Override
+			public Expense next() {
+				Expense expense = new Expense();
+				expense.setId((long) ++next);
+				expense.setTitle("Expense " + next);
+				expense.setDescription("Synthetic expense used to benchmark the PDF report");
+				expense.setAmount(BigDecimal.valueOf(125, 2));
+				expense.setDate(LocalDate.of(2024, 1, 1).plusDays(next % 365));
+				expense.setCategory("Food");
+				expense.setPaymentMethod("Card");
+				expense.setExpenseType("PERSONAL");
+				return expense;
+			}
+		};
+	}
+}
@@ -0,0 +1,49 @@
+package com.expenses_tracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ReminderTimingWheelTests {
+
+	private static final long START = 29_000_000L; // an arbitrary epoch minute
+
+	@Test
+	void firesEachEntryAtItsMinuteAcrossAllLevels() {
+		ReminderTimingWheel wheel = new ReminderTimingWheel(START);
+		wheel.schedule(1L, START + 5);              // minute level
+		wheel.schedule(2L, START + 3 * 60 + 7);     // hour level
+		wheel.schedule(3L, START + 40 * 1440 + 11); // day level
+
+		assertEquals(Map.of(), wheel.advanceTo(START + 4));
+		assertEquals(Map.of(1L, START + 5), wheel.advanceTo(START + 5));
+		assertEquals(Map.of(), wheel.advanceTo(START + 3 * 60 + 6));
+		assertEquals(Map.of(2L, START + 3 * 60 + 7), wheel.advanceTo(START + 3 * 60 + 7));
+		assertEquals(Map.of(3L, START + 40 * 1440 + 11), wheel.advanceTo(START + 41 * 1440));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void rescheduleAndCancelReplacePreviousEntry() {
+		ReminderTimingWheel wheel = new ReminderTimingWheel(START);
+		wheel.schedule(1L, START + 10);
+		wheel.schedule(1L, START + 2 * 1440);
+		wheel.schedule(2L, START + 20);
+		assertTrue(wheel.cancel(2L));
+
+		assertEquals(Map.of(), wheel.advanceTo(START + 1440));
+		assertEquals(Map.of(1L, START + 2 * 1440), wheel.advanceTo(START + 3 * 1440));
+	}
+
+	@Test
+	void rejectsPastAndBeyondHorizon() {
+		ReminderTimingWheel wheel = new ReminderTimingWheel(START);
+		assertFalse(wheel.schedule(1L, START - 1));
+		assertFalse(wheel.schedule(2L, START + ReminderTimingWheel.HORIZON_MINUTES));
+		assertEquals(0, wheel.size());
+	}
+}
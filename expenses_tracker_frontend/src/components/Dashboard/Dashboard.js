@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useAuth } from '../../context/AuthContext';
-import { expenseAPI, budgetAPI, notificationAPI } from '../../services/api';
+import { dashboardAPI } from '../../services/api';
 import { BarChart, Bar, XAxis, YAxis, CartesianGrid, Tooltip, Legend, ResponsiveContainer, PieChart, Pie, Cell } from 'recharts';
 import { TrendingUp, Bell, Calendar } from 'lucide-react';
 import './Dashboard.css';
@@ -9,158 +9,75 @@ const COLORS = ['#667eea', '#764ba2', '#f093fb', '#4facfe'];
 
 const Dashboard = () => {
   const { user } = useAuth();
-  const [expenses, setExpenses] = useState([]);
-  const [budgets, setBudgets] = useState([]);
-  const [notifications, setNotifications] = useState([]);
+  const [summary, setSummary] = useState(null);
   const [timePeriod, setTimePeriod] = useState('monthly'); // 'weekly', 'monthly', 'yearly'
-  const [stats, setStats] = useState({
-    totalExpenses: 0,
-    monthlyExpenses: 0,
-    budgetUtilization: 0,
-    unreadNotifications: 0
-  });
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
     if (user) {
       fetchDashboardData();
-      
-      // Refresh dashboard every 30 seconds to show new expenses
-      const interval = setInterval(() => {
-        fetchDashboardData();
-      }, 30000);
-      
-      return () => clearInterval(interval);
+
+      // The unread count arrives over the notification stream (see Navbar); new
+      // notifications are budget alerts and bill reminders, so refresh the figures then
+      const handleUnreadCount = (event) =>
+        setSummary((current) => current && { ...current, unreadNotifications: event.detail });
+      const handleNotification = () => fetchDashboardData();
+      window.addEventListener('unreadCountChange', handleUnreadCount);
+      window.addEventListener('notificationReceived', handleNotification);
+
+      return () => {
+        window.removeEventListener('unreadCountChange', handleUnreadCount);
+        window.removeEventListener('notificationReceived', handleNotification);
+      };
     }
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [user]);
 
   const fetchDashboardData = async () => {
     try {
-      console.log('Fetching dashboard data for user:', user.id);
-      
-      // Fetch expenses
-      const expensesRes = await expenseAPI.getAllExpenses();
-      console.log('Raw expenses response:', expensesRes.data);
-      const expensesData = Array.isArray(expensesRes.data) ? expensesRes.data : [];
-      setExpenses(expensesData);
-
-      // Fetch budgets
-      const budgetsRes = await budgetAPI.getBudgetsByUser(user.id);
-      console.log('Raw budgets response:', budgetsRes.data);
-      const budgetsData = Array.isArray(budgetsRes.data) ? budgetsRes.data : [];
-      setBudgets(budgetsData);
-
-      // Fetch notifications
-      let unreadCount = 0;
-      try {
-        const notificationsRes = await notificationAPI.getNotifications(user.id);
-        console.log('Raw notifications response:', notificationsRes.data);
-        const notificationsData = Array.isArray(notificationsRes.data) ? notificationsRes.data : [];
-        const unreadNotifications = notificationsData.filter(n => !n.isRead);
-        setNotifications(unreadNotifications);
-        unreadCount = unreadNotifications.length;
-        console.log('Unread notifications count:', unreadCount);
-      } catch (err) {
-        console.log('Notifications fetch failed, using empty array');
-        setNotifications([]);
-        unreadCount = 0;
-      }
-
-      // Calculate stats
-      const total = expensesData.reduce((sum, exp) => {
-        const amount = parseFloat(exp.amount || 0);
-        return sum + amount;
-      }, 0);
-      
-      const currentMonth = new Date().getMonth();
-      const currentYear = new Date().getFullYear();
-      const thisMonth = expensesData
-        .filter(exp => {
-          const expDate = new Date(exp.date);
-          return expDate.getMonth() === currentMonth && expDate.getFullYear() === currentYear;
-        })
-        .reduce((sum, exp) => sum + parseFloat(exp.amount || 0), 0);
-
-      setStats({
-        totalExpenses: total,
-        monthlyExpenses: thisMonth,
-        budgetUtilization: budgetsData.length,
-        unreadNotifications: unreadCount
-      });
-
-      console.log('Dashboard stats calculated:', { total, thisMonth, budgets: budgetsData.length });
+      // Totals, trends and budget usage are aggregated on the server
+      const summaryRes = await dashboardAPI.getSummary();
+      setSummary(summaryRes.data);
       setLoading(false);
     } catch (error) {
       console.error('Error fetching dashboard data:', error);
       console.error('Error details:', error.response?.data);
-      setExpenses([]);
-      setBudgets([]);
-      setNotifications([]);
+      setSummary(null);
       setLoading(false);
     }
   };
 
+  const toNumber = (value) => parseFloat(value || 0);
+
   const getCategoryData = () => {
-    if (!expenses || expenses.length === 0) {
-      return [{ name: 'No Data', value: 1 }];
-    }
-    const categoryMap = {};
-    expenses.forEach(exp => {
-      const category = exp.category || 'Other';
-      const amount = parseFloat(exp.amount || 0);
-      categoryMap[category] = (categoryMap[category] || 0) + amount;
-    });
-    const data = Object.entries(categoryMap).map(([name, value]) => ({ name, value }));
+    const totals = summary?.categoryTotals || [];
+    const data = totals.map(t => ({ name: t.category || 'Other', value: toNumber(t.amount) }));
     return data.length > 0 ? data : [{ name: 'No Data', value: 1 }];
   };
 
   const getWeeklyData = () => {
-    if (!expenses || expenses.length === 0) {
-      return [{ week: 'No Data', amount: 0 }];
-    }
-    const weeklyMap = {};
-    const now = new Date();
-    const fourWeeksAgo = new Date(now.getTime() - 28 * 24 * 60 * 60 * 1000);
-    
-    expenses.forEach(exp => {
-      const expDate = new Date(exp.date);
-      if (expDate >= fourWeeksAgo) {
-        const weekNum = Math.floor((now - expDate) / (7 * 24 * 60 * 60 * 1000));
-        const weekLabel = weekNum === 0 ? 'This Week' : `${weekNum} Week${weekNum > 1 ? 's' : ''} Ago`;
-        const amount = parseFloat(exp.amount || 0);
-        weeklyMap[weekLabel] = (weeklyMap[weekLabel] || 0) + amount;
-      }
+    const totals = summary?.weeklyTotals || [];
+    const data = totals.map(t => {
+      const weekNum = parseInt(t.period, 10);
+      const week = weekNum === 0 ? 'This Week' : `${weekNum} Week${weekNum > 1 ? 's' : ''} Ago`;
+      return { week, amount: toNumber(t.amount) };
     });
-    const data = Object.entries(weeklyMap).map(([week, amount]) => ({ week, amount }));
     return data.length > 0 ? data : [{ week: 'No Data', amount: 0 }];
   };
 
   const getMonthlyData = () => {
-    if (!expenses || expenses.length === 0) {
-      return [{ month: 'No Data', amount: 0 }];
-    }
-    const monthlyMap = {};
-    expenses.forEach(exp => {
-      const month = new Date(exp.date).toLocaleString('default', { month: 'short' });
-      const amount = parseFloat(exp.amount || 0);
-      monthlyMap[month] = (monthlyMap[month] || 0) + amount;
+    const totals = summary?.monthlyTotals || [];
+    const data = totals.map(t => {
+      const [year, month] = t.period.split('-').map(Number);
+      const label = new Date(year, month - 1).toLocaleString('default', { month: 'short' });
+      return { month: label, amount: toNumber(t.amount) };
     });
-    const data = Object.entries(monthlyMap).map(([month, amount]) => ({ month, amount }));
     return data.length > 0 ? data : [{ month: 'No Data', amount: 0 }];
   };
 
   const getYearlyData = () => {
-    if (!expenses || expenses.length === 0) {
-      return [{ year: 'No Data', amount: 0 }];
-    }
-    const yearlyMap = {};
-    expenses.forEach(exp => {
-      const year = new Date(exp.date).getFullYear();
-      const amount = parseFloat(exp.amount || 0);
-      yearlyMap[year] = (yearlyMap[year] || 0) + amount;
-    });
-    const data = Object.entries(yearlyMap).map(([year, amount]) => ({ year, amount }));
+    const totals = summary?.yearlyTotals || [];
+    const data = totals.map(t => ({ year: t.period, amount: toNumber(t.amount) }));
     return data.length > 0 ? data : [{ year: 'No Data', amount: 0 }];
   };
 
@@ -190,6 +107,8 @@ const Dashboard = () => {
     return <div className="dashboard-loading">Loading dashboard...</div>;
   }
 
+  const recentExpenses = summary?.recentExpenses || [];
+
   return (
     <div className="dashboard">
       <div className="dashboard-header">
@@ -204,7 +123,7 @@ const Dashboard = () => {
           </div>
           <div className="stat-content">
             <h3>Total Expenses</h3>
-            <p className="stat-value">₹{stats.totalExpenses.toFixed(2)}</p>
+            <p className="stat-value">₹{toNumber(summary?.totalSpent).toFixed(2)}</p>
           </div>
         </div>
 
@@ -214,7 +133,7 @@ const Dashboard = () => {
           </div>
           <div className="stat-content">
             <h3>This Month</h3>
-            <p className="stat-value">₹{stats.monthlyExpenses.toFixed(2)}</p>
+            <p className="stat-value">₹{toNumber(summary?.currentMonthSpent).toFixed(2)}</p>
           </div>
         </div>
 
@@ -224,7 +143,7 @@ const Dashboard = () => {
           </div>
           <div className="stat-content">
             <h3>Active Budgets</h3>
-            <p className="stat-value">{budgets.length}</p>
+            <p className="stat-value">{summary?.budgets?.length || 0}</p>
           </div>
         </div>
 
@@ -234,7 +153,7 @@ const Dashboard = () => {
           </div>
           <div className="stat-content">
             <h3>Notifications</h3>
-            <p className="stat-value">{stats.unreadNotifications}</p>
+            <p className="stat-value">{summary?.unreadNotifications || 0}</p>
           </div>
         </div>
       </div>
@@ -327,13 +246,10 @@ const Dashboard = () => {
       <div className="recent-activity">
         <h3>Recent Expenses</h3>
         <div className="activity-list">
-          {expenses.length === 0 ? (
+          {recentExpenses.length === 0 ? (
             <p className="empty-message">No expenses yet. Add your first expense to see it here!</p>
           ) : (
-            expenses
-              .sort((a, b) => new Date(b.date) - new Date(a.date))
-              .slice(0, 5)
-              .map(expense => (
+            recentExpenses.map(expense => (
               <div key={expense.id} className="activity-item">
                 <div className="activity-info">
                   <h4>{expense.title || 'Untitled'}</h4>
@@ -14,25 +14,33 @@ const Navbar = () => {
 
   useEffect(() => {
     if (user && user.id) {
-      fetchUnreadCount();
-      // Refresh count every 30 seconds
-      const interval = setInterval(fetchUnreadCount, 30000);
-      
-      // Listen for notification updates
-      const handleNotificationUpdate = () => fetchUnreadCount();
-      window.addEventListener('notificationUpdate', handleNotificationUpdate);
-      
-      return () => {
-        clearInterval(interval);
-        window.removeEventListener('notificationUpdate', handleNotificationUpdate);
-      };
+      // The server pushes the unread count on connect and whenever it changes;
+      // the browser reconnects the stream by itself if it drops
+      const stream = notificationAPI.openStream();
+
+      stream.addEventListener('unread-count', (event) => {
+        const { count } = JSON.parse(event.data);
+        setUnreadCount(count);
+        window.dispatchEvent(new CustomEvent('unreadCountChange', { detail: count }));
+      });
+      stream.addEventListener('notification', (event) => {
+        window.dispatchEvent(new CustomEvent('notificationReceived', { detail: JSON.parse(event.data) }));
+      });
+      // Sent when this tab fell behind and missed events
+      stream.addEventListener('resync', () => {
+        fetchUnreadCount();
+        window.dispatchEvent(new Event('notificationResync'));
+      });
+
+      return () => stream.close();
     }
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [user]);
 
   const fetchUnreadCount = async () => {
     try {
-      const response = await notificationAPI.getUnreadNotifications(user.id);
-      setUnreadCount(response.data.length);
+      const response = await notificationAPI.getUnreadCount(user.id);
+      setUnreadCount(response.data.count);
     } catch (error) {
       console.error('Error fetching notification count:', error);
     }
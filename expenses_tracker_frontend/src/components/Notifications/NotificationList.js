@@ -14,7 +14,20 @@ const NotificationList = () => {
   useEffect(() => {
     if (user) {
       fetchNotifications();
+
+      // New notifications are pushed over the stream opened by the Navbar
+      const handleNotification = (event) =>
+        setUnreadNotifications((current) => [event.detail, ...current]);
+      const handleResync = () => fetchNotifications();
+      window.addEventListener('notificationReceived', handleNotification);
+      window.addEventListener('notificationResync', handleResync);
+
+      return () => {
+        window.removeEventListener('notificationReceived', handleNotification);
+        window.removeEventListener('notificationResync', handleResync);
+      };
     }
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [user]);
 
   const fetchNotifications = async () => {
@@ -42,9 +55,7 @@ const NotificationList = () => {
       
       // Refetch to ensure consistency with backend
       await fetchNotifications();
-      
-      // Dispatch event to update navbar count
-      window.dispatchEvent(new Event('notificationUpdate'));
+      // The navbar count is updated by the notification stream
     } catch (error) {
       console.error('Error marking notification as read:', error);
       console.error('Error details:', error.response?.data);
@@ -95,9 +106,7 @@ const NotificationList = () => {
       
       // Refetch to ensure consistency with backend
       await fetchNotifications();
-      
-      // Dispatch event to update navbar count
-      window.dispatchEvent(new Event('notificationUpdate'));
+      // The navbar count is updated by the notification stream
     } catch (error) {
       console.error('Error deleting notification:', error);
       console.error('Error details:', error.response?.data);
@@ -116,9 +125,7 @@ const NotificationList = () => {
       
       // Refetch to ensure consistency with backend
       await fetchNotifications();
-      
-      // Dispatch event to update navbar count
-      window.dispatchEvent(new Event('notificationUpdate'));
+      // The navbar count is updated by the notification stream
     } catch (error) {
       console.error('Error deleting all notifications:', error);
       console.error('Error details:', error.response?.data);
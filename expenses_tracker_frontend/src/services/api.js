@@ -49,7 +49,14 @@ export const expenseAPI = {
   updateExpense: (id, expenseData) => api.put(`/expenses/${id}`, expenseData),
   deleteExpense: (id) => api.delete(`/expenses/${id}`),
   togglePin: (id) => api.post(`/expenses/${id}/togglePin`),
-  searchExpenses: (keyword) => api.get(`/expenses/search?keyword=${keyword}`),
+  searchExpenses: (keyword, page = 0, size) =>
+    api.get("/expenses/search", { params: { keyword, page, size } }),
+  importExpenses: (formData) =>
+    api.post("/expenses/import", formData, {
+      headers: {
+        "Content-Type": "multipart/form-data",
+      },
+    }),
   filterByCategory: (category) =>
     api.get(`/expenses/filter/category?category=${category}`),
   filterByPaymentMethod: (method) =>
@@ -64,6 +71,11 @@ export const expenseAPI = {
     ),
 };
 
+// Dashboard API
+export const dashboardAPI = {
+  getSummary: () => api.get("/dashboard/summary"),
+};
+
 // Budget API
 export const budgetAPI = {
   getAllBudgets: () => api.get("/budgets"),
@@ -100,6 +112,7 @@ export const notificationAPI = {
   getNotifications: (userId) => api.get(`/notifications/${userId}`),
   getUnreadNotifications: (userId) =>
     api.get(`/notifications/${userId}/unread`),
+  getUnreadCount: (userId) => api.get(`/notifications/${userId}/unread-count`),
   markAsRead: (notificationId) =>
     api.post(`/notifications/${notificationId}/mark-read`),
   markAsUnread: (notificationId) =>
@@ -109,6 +122,11 @@ export const notificationAPI = {
     api.delete(`/notifications/${notificationId}`),
   deleteAllNotifications: (userId) =>
     api.delete(`/notifications/user/${userId}/delete-all`),
+  // Server-Sent Events: "unread-count", "notification" and "resync" events
+  openStream: () =>
+    new EventSource(`${api.defaults.baseURL}/notifications/stream`, {
+      withCredentials: true,
+    }),
 };
 
 // Category API
@@ -128,6 +146,12 @@ export const reportAPI = {
     api.get(`/reports/user/${userId}?format=${format}`, {
       responseType: "blob", // Important for downloading files
     }),
+  // Background rendering: create a job, poll its status, then download the file
+  createReportJob: (userId, format) =>
+    api.post(`/reports/user/${userId}/jobs?format=${format}`),
+  getReportJob: (jobId) => api.get(`/reports/jobs/${jobId}`),
+  downloadReportJob: (jobId) =>
+    api.get(`/reports/jobs/${jobId}/download`, { responseType: "blob" }),
 };
 
 // Data API (for testing/seeding)